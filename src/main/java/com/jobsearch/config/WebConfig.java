@@ -1,51 +1,87 @@
 package com.jobsearch.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.web.reactive.function.client.WebClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import java.util.Collections;
+import java.time.Duration;
 
 @Configuration
 public class WebConfig {
 
+    @Value("${jsearch.http.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${jsearch.http.max-pending-acquires:1000}")
+    private int maxPendingAcquires;
+
+    @Value("${jsearch.http.connect-timeout:5000}")
+    private int connectTimeoutMillis;
+
+    @Value("${jsearch.http.read-timeout:30000}")
+    private long readTimeoutMillis;
+
+    @Value("${jsearch.http.pool-acquire-timeout:5000}")
+    private long poolAcquireTimeoutMillis;
+
+    @Value("${jsearch.http.keep-alive:60000}")
+    private long keepAliveMillis;
+
+    @Value("${jsearch.http.idle-eviction:30000}")
+    private long idleEvictionMillis;
+
+    @Value("${jsearch.http.compression:true}")
+    private boolean compressionEnabled;
+
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
 
-    @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
-                .codecs(configurer -> configurer
-                        .defaultCodecs()
-                        .maxInMemorySize(16 * 1024 * 1024))
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider jsearchConnectionProvider() {
+        return ConnectionProvider.builder("jsearch")
+                .maxConnections(maxConnectionsPerRoute)
+                .pendingAcquireMaxCount(maxPendingAcquires)
+                .pendingAcquireTimeout(Duration.ofMillis(poolAcquireTimeoutMillis))
+                .maxLifeTime(Duration.ofMillis(keepAliveMillis))
+                .maxIdleTime(Duration.ofMillis(idleEvictionMillis))
+                .evictInBackground(Duration.ofMillis(idleEvictionMillis))
                 .build();
     }
 
     @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(30000);
-        factory.setReadTimeout(30000);
-        restTemplate.setRequestFactory(factory);
+    public WebClient webClient(ConnectionProvider jsearchConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(jsearchConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(readTimeoutMillis))
+                .compress(compressionEnabled)
+                .keepAlive(true);
 
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         objectMapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
 
-        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
-        converter.setObjectMapper(objectMapper);
-
-        restTemplate.setMessageConverters(Collections.singletonList(converter));
-
-        return restTemplate;
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024);
+                    configurer.defaultCodecs().jackson2JsonDecoder(
+                            new Jackson2JsonDecoder(objectMapper, MediaType.APPLICATION_JSON));
+                    configurer.defaultCodecs().jackson2JsonEncoder(
+                            new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON));
+                })
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.jobsearch.controller;
 
 import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.service.AlertBackfillService;
 import com.jobsearch.service.JobAlertService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import java.util.List;
 public class JobAlertController {
 
     private final JobAlertService jobAlertService;
+    private final AlertBackfillService alertBackfillService;
 
     @PostMapping("/user/{userId}")
     public ResponseEntity<JobAlertDTO.JobAlertResponse> createJobAlert(
@@ -43,6 +45,20 @@ public class JobAlertController {
         return ResponseEntity.ok(alerts);
     }
 
+    @GetMapping("/{alertId}/preview")
+    public ResponseEntity<JobAlertDTO.AlertPreviewResponse> previewJobAlert(
+            @PathVariable Long alertId,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(alertBackfillService.preview(alertId, limit));
+    }
+
+    @PostMapping("/{alertId}/backfill")
+    public ResponseEntity<JobAlertDTO.AlertPreviewResponse> backfillJobAlert(
+            @PathVariable Long alertId,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(alertBackfillService.backfill(alertId, limit));
+    }
+
     @PutMapping("/{alertId}")
     public ResponseEntity<JobAlertDTO.JobAlertResponse> updateJobAlert(
             @PathVariable Long alertId,
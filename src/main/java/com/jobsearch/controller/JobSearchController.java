@@ -46,4 +46,19 @@ public class JobSearchController {
         List<JobVacancy> recentJobs = jobMatchingService.getRecentJobVacancies(hours);
         return ResponseEntity.ok(recentJobs);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<JSearchDTO.CacheStats> getCacheStats() {
+        return ResponseEntity.ok(jSearchService.getCacheStats());
+    }
+
+    @GetMapping("/resilience")
+    public ResponseEntity<JSearchDTO.ResilienceStats> getResilienceStats() {
+        return ResponseEntity.ok(jSearchService.getResilienceStats());
+    }
+
+    @GetMapping("/quota")
+    public ResponseEntity<JSearchDTO.QuotaStatus> getQuotaStatus() {
+        return ResponseEntity.ok(jSearchService.getQuotaStatus());
+    }
+}
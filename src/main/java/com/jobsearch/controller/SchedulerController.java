@@ -1,11 +1,21 @@
 package com.jobsearch.controller;
 
+import com.jobsearch.dto.SchedulerDTO;
+import com.jobsearch.scheduler.AlertPipeline;
 import com.jobsearch.scheduler.JobSearchScheduler;
+import com.jobsearch.scheduler.SchedulerRun;
+import com.jobsearch.scheduler.SchedulerRunRegistry;
+import com.jobsearch.service.ParallelJobMatcher;
+import com.jobsearch.service.PartitionLeaseService;
+import com.jobsearch.service.VacancySearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/scheduler")
 @RequiredArgsConstructor
@@ -13,22 +23,84 @@ import org.springframework.web.bind.annotation.*;
 public class SchedulerController {
 
     private final JobSearchScheduler jobSearchScheduler;
+    private final SchedulerRunRegistry runRegistry;
+    private final AlertPipeline alertPipeline;
+    private final PartitionLeaseService partitionLeaseService;
+    private final ParallelJobMatcher parallelJobMatcher;
+    private final VacancySearchIndex vacancySearchIndex;
 
     @PostMapping("/run-now")
-    public ResponseEntity<String> runSchedulerNow() {
-        try {
-            log.info("Executando busca de empregos manualmente via API");
-            jobSearchScheduler.searchJobsForAllAlerts();
-            return ResponseEntity.ok("Busca de empregos executada com sucesso! Verifique os logs para detalhes.");
-        } catch (Exception e) {
-            log.error("Erro ao executar busca manual: ", e);
-            return ResponseEntity.badRequest()
-                    .body("Erro ao executar busca: " + e.getMessage());
-        }
+    public ResponseEntity<SchedulerDTO.RunStatusResponse> runSchedulerNow() {
+        log.info("Executando busca de empregos manualmente via API");
+        SchedulerRun run = jobSearchScheduler.startManualRun();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(mapToRunResponse(run));
+    }
+
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<SchedulerDTO.RunStatusResponse> getRun(@PathVariable String runId) {
+        return ResponseEntity.ok(mapToRunResponse(runRegistry.getRun(runId)));
+    }
+
+    @PostMapping("/runs/{runId}/cancel")
+    public ResponseEntity<SchedulerDTO.RunStatusResponse> cancelRun(@PathVariable String runId) {
+        SchedulerRun run = runRegistry.cancel(runId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(mapToRunResponse(run));
     }
 
     @GetMapping("/status")
-    public ResponseEntity<String> getSchedulerStatus() {
-        return ResponseEntity.ok("Scheduler está ativo. Executando a cada hora automaticamente.");
+    public ResponseEntity<SchedulerDTO.SchedulerStatusResponse> getSchedulerStatus() {
+        SchedulerDTO.SchedulerStatusResponse response = new SchedulerDTO.SchedulerStatusResponse();
+        runRegistry.getActiveRun().ifPresent(run -> {
+            response.setRunning(true);
+            response.setActiveRun(mapToRunResponse(run));
+        });
+        runRegistry.getLastRun().ifPresent(run -> response.setLastRun(mapToRunResponse(run)));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/pipeline")
+    public ResponseEntity<List<SchedulerDTO.PipelineStageStats>> getPipelineStats() {
+        return ResponseEntity.ok(alertPipeline.getStats());
+    }
+
+    @GetMapping("/matching")
+    public ResponseEntity<SchedulerDTO.MatchingStats> getMatchingStats() {
+        return ResponseEntity.ok(parallelJobMatcher.getStats());
+    }
+
+    @GetMapping("/search-index")
+    public ResponseEntity<SchedulerDTO.SearchIndexStats> getSearchIndexStats() {
+        return ResponseEntity.ok(vacancySearchIndex.getStats());
+    }
+
+    @GetMapping("/cluster")
+    public ResponseEntity<SchedulerDTO.ClusterStatusResponse> getClusterStatus() {
+        SchedulerDTO.ClusterStatusResponse response = new SchedulerDTO.ClusterStatusResponse();
+        response.setClusterEnabled(partitionLeaseService.isClusterEnabled());
+        response.setNodeId(partitionLeaseService.getNodeId());
+        response.setLiveNodes(partitionLeaseService.getLiveNodeCount());
+        response.setPartitionCount(partitionLeaseService.getPartitionCount());
+        response.setOwnedPartitions(partitionLeaseService.getOwnedPartitions());
+        return ResponseEntity.ok(response);
+    }
+
+    private SchedulerDTO.RunStatusResponse mapToRunResponse(SchedulerRun run) {
+        SchedulerDTO.RunStatusResponse response = new SchedulerDTO.RunStatusResponse();
+        response.setId(run.getId());
+        response.setTrigger(run.getTrigger().name());
+        response.setStatus(run.getStatus().name());
+        response.setStartedAt(run.getStartedAt());
+        response.setFinishedAt(run.getFinishedAt());
+        response.setCancelRequested(run.isCancelRequested());
+        response.setTotalAlerts(run.getTotalAlerts());
+        response.setAlertsDone(run.getAlertsDone());
+        response.setAlertsDeferred(run.getAlertsDeferred());
+        response.setAlertsFannedOut(run.getAlertsFannedOut());
+        response.setApiCalls(run.getApiCalls());
+        response.setMatches(run.getMatches());
+        response.setEmailsSent(run.getEmailsSent());
+        response.setErrors(run.getErrors());
+        response.setErrorMessage(run.getErrorMessage());
+        return response;
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.jobsearch.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class JSearchDTO {
@@ -97,4 +98,60 @@ public class JSearchDTO {
         private List<String> responsibilities;
         private List<String> benefits;
     }
-}
\ No newline at end of file
+
+    @Data
+    public static class CacheStats {
+        private boolean enabled;
+        private int entries;
+        private int maxEntries;
+        private long sizeBytes;
+        private long maxBytes;
+        private long ttlSeconds;
+        private long hits;
+        private long misses;
+        private long evictions;
+        private long expirations;
+        private double hitRate;
+        private int inFlightRequests;
+        private long coalescedRequests;
+    }
+
+    @Data
+    public static class ResilienceStats {
+        private String circuitState;
+        private double failureRate;
+        private int bufferedCalls;
+        private int failedCalls;
+        private long circuitRejectedCalls;
+        private LocalDateTime openedAt;
+        private long retryInSeconds;
+        private int bulkheadActiveCalls;
+        private int bulkheadMaxConcurrentCalls;
+        private long bulkheadRejectedCalls;
+        private double currentRatePerSecond;
+        private long retriedRequests;
+        private long retriesDeniedByBudget;
+        private double retryBudgetTokens;
+        private boolean hedgingEnabled;
+        private long hedgedRequests;
+        private long latencyP50Millis;
+        private long latencyP95Millis;
+    }
+
+    @Data
+    public static class QuotaStatus {
+        private boolean enabled;
+        private String period;
+        private long monthlyLimit;
+        private long reservedCalls;
+        private long usedCalls;
+        private long remainingCalls;
+        private double hoursRemaining;
+        private double burnRatePerHour;
+        private double allowedRatePerHour;
+        private long projectedMonthlyUsage;
+        private double intervalMultiplier;
+        private boolean skippingSingleAlertSearches;
+        private boolean exhausted;
+    }
+}
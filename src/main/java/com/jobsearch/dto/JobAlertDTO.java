@@ -1,6 +1,7 @@
 package com.jobsearch.dto;
 
 import com.jobsearch.entity.JobAlert;
+import com.jobsearch.entity.JobVacancy;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
@@ -31,6 +32,9 @@ public class JobAlertDTO {
         @Min(value = 1, message = "Mínimo de tags deve ser pelo menos 1")
         private Integer minimumMatchingTags;
 
+        @Min(value = 5, message = "Intervalo de verificação deve ser de pelo menos 5 minutos")
+        private Integer pollingIntervalMinutes;
+
         @NotEmpty(message = "Pelo menos uma tag é obrigatória")
         private List<TagRequest> tags;
     }
@@ -54,7 +58,10 @@ public class JobAlertDTO {
         private Integer minimumMatchingTags;
         private Boolean isActive;
         private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
         private LocalDateTime lastChecked;
+        private Integer pollingIntervalMinutes;
+        private LocalDateTime nextRunAt;
         private List<TagResponse> tags;
     }
 
@@ -64,4 +71,15 @@ public class JobAlertDTO {
         private String tag;
         private Boolean isRequired;
     }
-}
\ No newline at end of file
+
+    @Data
+    public static class AlertPreviewResponse {
+        private Long alertId;
+        private int indexedVacancies;
+        private int candidates;
+        private int matchedJobs;
+        private int queuedJobs;
+        private double tookMillis;
+        private List<JobVacancy> jobs;
+    }
+}
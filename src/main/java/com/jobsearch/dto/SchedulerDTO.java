@@ -0,0 +1,97 @@
+package com.jobsearch.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public class SchedulerDTO {
+
+    @Data
+    public static class ClusterStatusResponse {
+        private boolean clusterEnabled;
+        private String nodeId;
+        private long liveNodes;
+        private int partitionCount;
+        private Set<Integer> ownedPartitions;
+    }
+
+    @Data
+    public static class RunStatusResponse {
+        private String id;
+        private String trigger;
+        private String status;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private boolean cancelRequested;
+        private int totalAlerts;
+        private int alertsDone;
+        private int alertsDeferred;
+        private int alertsFannedOut;
+        private int apiCalls;
+        private int matches;
+        private int emailsSent;
+        private int errors;
+        private String errorMessage;
+    }
+
+    @Data
+    public static class PipelineStageStats {
+        private String name;
+        private int workers;
+        private int busyWorkers;
+        private int inFlight;
+        private int queueDepth;
+        private int queueCapacity;
+        private long processed;
+        private long failed;
+        private double averageProcessingMillis;
+        private double throughputPerSecond;
+    }
+
+    @Data
+    public static class SchedulerStatusResponse {
+        private boolean running;
+        private RunStatusResponse activeRun;
+        private RunStatusResponse lastRun;
+    }
+
+    @Data
+    public static class MatchingStats {
+        private int parallelism;
+        private long parallelThreshold;
+        private long batches;
+        private long parallelBatches;
+        private long evaluations;
+        private long matches;
+        private double matchingMillis;
+        private double evaluationsPerSecond;
+        private double matchesPerSecond;
+        private MatchingBatchStats lastBatch;
+    }
+
+    @Data
+    public static class SearchIndexStats {
+        private boolean enabled;
+        private int documents;
+        private int deletedDocuments;
+        private int terms;
+        private long retentionDays;
+        private long purgedDocuments;
+        private long compactions;
+        private long postingBytes;
+        private long estimatedBytes;
+    }
+
+    @Data
+    public static class MatchingBatchStats {
+        private int vacancies;
+        private int alerts;
+        private long evaluations;
+        private int matches;
+        private boolean parallel;
+        private double tookMillis;
+        private double evaluationsPerSecond;
+        private double matchesPerSecond;
+    }
+}
@@ -0,0 +1,26 @@
+package com.jobsearch.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "api_quota_usage")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiQuotaUsage {
+
+    @Id
+    @Column(name = "period", nullable = false, length = 7)
+    private String period;
+
+    @Column(name = "request_count", nullable = false)
+    private Long requestCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
-@Table(name = "job_alerts")
+@Table(name = "job_alerts",
+        indexes = @Index(name = "idx_job_alerts_active_next_run", columnList = "is_active, next_run_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -49,9 +50,18 @@ public class JobAlert {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @Column(name = "last_checked")
     private LocalDateTime lastChecked;
 
+    @Column(name = "polling_interval_minutes")
+    private Integer pollingIntervalMinutes;
+
+    @Column(name = "next_run_at")
+    private LocalDateTime nextRunAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -62,6 +72,10 @@ public class JobAlert {
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+        if (nextRunAt == null) {
+            nextRunAt = createdAt;
+        }
     }
 
     public enum LocationType {
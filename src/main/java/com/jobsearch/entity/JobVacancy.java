@@ -1,17 +1,23 @@
 package com.jobsearch.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Entity
 @Table(name = "job_vacancies")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EqualsAndHashCode(exclude = "searchTerms")
+@ToString(exclude = "searchTerms")
 public class JobVacancy {
 
     @Id
@@ -51,12 +57,20 @@ public class JobVacancy {
     @Column(name = "employment_type")
     private String employmentType;
 
+    @JsonIgnore
+    @Column(name = "search_document", columnDefinition = "TEXT")
+    private String searchDocument;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
 
+    @Transient
+    @JsonIgnore
+    private Set<String> searchTerms;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,26 @@
+package com.jobsearch.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduler_partition_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerPartitionLease {
+
+    @Id
+    @Column(name = "partition_id", nullable = false)
+    private Integer partitionId;
+
+    @Column(name = "owner_node_id")
+    private String ownerNodeId;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+}
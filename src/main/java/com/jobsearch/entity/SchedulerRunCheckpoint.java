@@ -0,0 +1,41 @@
+package com.jobsearch.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduler_run_checkpoints",
+        indexes = @Index(name = "idx_scheduler_checkpoints_run", columnList = "run_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerRunCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private String runId;
+
+    @Column(name = "alert_id")
+    private Long alertId;
+
+    @Column(name = "search_key")
+    private String searchKey;
+
+    @Column(name = "vacancy_ids", columnDefinition = "TEXT")
+    private String vacancyIds;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,45 @@
+package com.jobsearch.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduler_runs",
+        indexes = @Index(name = "idx_scheduler_runs_status_updated", columnList = "status, updated_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerRunRecord {
+
+    @Id
+    @Column(nullable = false)
+    private String id;
+
+    @Column(name = "trigger_type", nullable = false)
+    private String triggerType;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(name = "node_id")
+    private String nodeId;
+
+    @Column(name = "total_alerts", nullable = false)
+    private Integer totalAlerts;
+
+    @Column(name = "alert_ids", columnDefinition = "TEXT")
+    private String alertIds;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -41,6 +41,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(JobAlertInactiveException.class)
+    public ResponseEntity<ErrorResponse> handleJobAlertInactiveException(JobAlertInactiveException ex) {
+        log.warn("Alerta inativo: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Alerta inativo",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(EmailAlreadyExistsException.class)
     public ResponseEntity<ErrorResponse> handleEmailAlreadyExistsException(EmailAlreadyExistsException ex) {
         log.error("Email já existe: {}", ex.getMessage());
@@ -53,6 +65,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(SchedulerRunNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleSchedulerRunNotFoundException(SchedulerRunNotFoundException ex) {
+        log.error("Execução não encontrada: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "Execução não encontrada",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(SchedulerRunInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleSchedulerRunInProgressException(SchedulerRunInProgressException ex) {
+        log.warn("Execução já em andamento: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Execução já em andamento",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(JSearchUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleJSearchUnavailableException(JSearchUnavailableException ex) {
+        log.warn("API JSearch indisponível: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Serviço de busca de empregos indisponível",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
     @ExceptionHandler(JSearchApiException.class)
     public ResponseEntity<ErrorResponse> handleJSearchApiException(JSearchApiException ex) {
         log.error("Erro na API JSearch: {}", ex.getMessage(), ex);
@@ -1,7 +1,19 @@
 package com.jobsearch.exception;
 
 public class JSearchApiException extends RuntimeException {
+
+    private final boolean retryable;
+
     public JSearchApiException(String message, Throwable cause) {
+        this(message, cause, false);
+    }
+
+    public JSearchApiException(String message, Throwable cause, boolean retryable) {
         super(message, cause);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,7 @@
+package com.jobsearch.exception;
+
+public class JSearchUnavailableException extends JSearchApiException {
+    public JSearchUnavailableException(String message) {
+        super(message, null, true);
+    }
+}
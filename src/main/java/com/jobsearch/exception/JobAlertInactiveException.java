@@ -0,0 +1,7 @@
+package com.jobsearch.exception;
+
+public class JobAlertInactiveException extends RuntimeException {
+    public JobAlertInactiveException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobsearch.exception;
+
+public class SchedulerRunInProgressException extends RuntimeException {
+    public SchedulerRunInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobsearch.exception;
+
+public class SchedulerRunNotFoundException extends RuntimeException {
+    public SchedulerRunNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobsearch.exception;
+
+public class SchedulerRunTimeoutException extends RuntimeException {
+    public SchedulerRunTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.jobsearch.repository;
+
+import com.jobsearch.entity.ApiQuotaUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ApiQuotaUsageRepository extends JpaRepository<ApiQuotaUsage, String> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ApiQuotaUsage u SET u.requestCount = u.requestCount + :delta, u.updatedAt = :now " +
+            "WHERE u.period = :period")
+    int increment(String period, long delta, LocalDateTime now);
+}
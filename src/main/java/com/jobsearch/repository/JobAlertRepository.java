@@ -1,10 +1,13 @@
 package com.jobsearch.repository;
 
 import com.jobsearch.entity.JobAlert;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +17,18 @@ public interface JobAlertRepository extends JpaRepository<JobAlert, Long> {
 
     List<JobAlert> findByIsActiveTrue();
 
+    List<JobAlert> findByIdInAndIsActiveTrue(Collection<Long> ids);
+
     @Query("SELECT ja FROM JobAlert ja WHERE ja.user.id = :userId AND ja.isActive = true")
     List<JobAlert> findActiveAlertsByUserId(Long userId);
+
+    @Query("SELECT ja FROM JobAlert ja WHERE ja.isActive = true " +
+            "AND (ja.nextRunAt IS NULL OR ja.nextRunAt <= :now) ORDER BY ja.nextRunAt ASC")
+    List<JobAlert> findDueAlerts(LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT ja FROM JobAlert ja WHERE ja.isActive = true " +
+            "AND (ja.nextRunAt IS NULL OR ja.nextRunAt <= :now) " +
+            "AND MOD(ja.id, :partitionCount) IN :partitions ORDER BY ja.nextRunAt ASC")
+    List<JobAlert> findDueAlertsInPartitions(LocalDateTime now, int partitionCount,
+                                             Collection<Integer> partitions, Pageable pageable);
 }
\ No newline at end of file
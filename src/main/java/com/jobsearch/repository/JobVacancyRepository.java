@@ -1,10 +1,13 @@
 package com.jobsearch.repository;
 
 import com.jobsearch.entity.JobVacancy;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +19,9 @@ public interface JobVacancyRepository extends JpaRepository<JobVacancy, Long> {
     boolean existsByExternalId(String externalId);
 
     List<JobVacancy> findByCreatedAtAfter(LocalDateTime dateTime);
+
+    List<JobVacancy> findByCreatedAtGreaterThanEqual(LocalDateTime dateTime, Pageable pageable);
+
+    @Query("SELECT v.externalId FROM JobVacancy v WHERE v.externalId IN :externalIds")
+    List<String> findExistingExternalIds(Collection<String> externalIds);
 }
\ No newline at end of file
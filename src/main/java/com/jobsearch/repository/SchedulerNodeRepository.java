@@ -0,0 +1,31 @@
+package com.jobsearch.repository;
+
+import com.jobsearch.entity.SchedulerNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface SchedulerNodeRepository extends JpaRepository<SchedulerNode, String> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_nodes (node_id, started_at, last_heartbeat) " +
+            "VALUES (:nodeId, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", nativeQuery = true)
+    int register(String nodeId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerNode n SET n.lastHeartbeat = local datetime WHERE n.nodeId = :nodeId")
+    int touch(String nodeId);
+
+    @Query("SELECT COUNT(n) FROM SchedulerNode n WHERE n.lastHeartbeat > local datetime - (:seconds) second")
+    long countAlive(long seconds);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SchedulerNode n WHERE n.lastHeartbeat < local datetime - (:seconds) second")
+    int deleteStaleNodes(long seconds);
+}
@@ -0,0 +1,31 @@
+package com.jobsearch.repository;
+
+import com.jobsearch.entity.SchedulerPartitionLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface SchedulerPartitionLeaseRepository extends JpaRepository<SchedulerPartitionLease, Integer> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_partition_leases (partition_id) VALUES (:partitionId)", nativeQuery = true)
+    int insertPartition(Integer partitionId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerPartitionLease l " +
+            "SET l.ownerNodeId = :nodeId, l.expiresAt = local datetime + (:leaseSeconds) second " +
+            "WHERE l.partitionId = :partitionId " +
+            "AND (l.ownerNodeId IS NULL OR l.ownerNodeId = :nodeId OR l.expiresAt < local datetime)")
+    int tryAcquire(Integer partitionId, String nodeId, long leaseSeconds);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerPartitionLease l SET l.ownerNodeId = NULL, l.expiresAt = NULL " +
+            "WHERE l.partitionId = :partitionId AND l.ownerNodeId = :nodeId")
+    int release(Integer partitionId, String nodeId);
+}
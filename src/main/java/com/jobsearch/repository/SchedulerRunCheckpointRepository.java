@@ -0,0 +1,30 @@
+package com.jobsearch.repository;
+
+import com.jobsearch.entity.SchedulerRunCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface SchedulerRunCheckpointRepository extends JpaRepository<SchedulerRunCheckpoint, Long> {
+
+    @Query("SELECT c.alertId FROM SchedulerRunCheckpoint c WHERE c.runId = :runId AND c.alertId IS NOT NULL")
+    List<Long> findDoneAlertIds(String runId);
+
+    List<SchedulerRunCheckpoint> findByRunIdAndSearchKeyIsNotNull(String runId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SchedulerRunCheckpoint c WHERE c.runId = :runId")
+    int deleteByRunId(String runId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SchedulerRunCheckpoint c WHERE c.runId NOT IN " +
+            "(SELECT r.id FROM SchedulerRunRecord r WHERE r.status = 'RUNNING')")
+    int deleteOfFinishedRuns();
+}
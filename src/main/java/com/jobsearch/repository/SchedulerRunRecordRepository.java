@@ -0,0 +1,33 @@
+package com.jobsearch.repository;
+
+import com.jobsearch.entity.SchedulerRunRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SchedulerRunRecordRepository extends JpaRepository<SchedulerRunRecord, String> {
+
+    List<SchedulerRunRecord> findByStatusAndUpdatedAtBeforeOrderByStartedAtAsc(String status, LocalDateTime before);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerRunRecord r SET r.updatedAt = :now WHERE r.id = :runId")
+    int touch(String runId, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SchedulerRunRecord r WHERE r.status <> 'RUNNING' AND r.updatedAt < :before")
+    int deleteFinishedBefore(LocalDateTime before);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerRunRecord r SET r.nodeId = :nodeId, r.updatedAt = :now " +
+            "WHERE r.id = :runId AND r.status = 'RUNNING' AND r.updatedAt < :staleBefore")
+    int claimOrphaned(String runId, String nodeId, LocalDateTime now, LocalDateTime staleBefore);
+}
@@ -0,0 +1,554 @@
+package com.jobsearch.scheduler;
+
+import com.jobsearch.dto.JSearchDTO;
+import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.dto.SchedulerDTO;
+import com.jobsearch.entity.JobAlert;
+import com.jobsearch.entity.JobVacancy;
+import com.jobsearch.entity.User;
+import com.jobsearch.exception.JSearchApiException;
+import com.jobsearch.exception.JSearchUnavailableException;
+import com.jobsearch.exception.SchedulerRunTimeoutException;
+import com.jobsearch.service.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(value = "job.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class AlertPipeline {
+
+    private final JobAlertService jobAlertService;
+    private final JobSearchCrawler jobSearchCrawler;
+    private final JobMatchingService jobMatchingService;
+    private final EmailService emailService;
+    private final JobDuplicateService jobDuplicateService;
+    private final SchedulerCheckpointService checkpointService;
+    private final JSearchCircuitBreaker circuitBreaker;
+    private final JSearchQuotaService quotaService;
+    private final AlertPercolator alertPercolator;
+    private final AlertMatcherCache alertMatcherCache;
+    private final RelevanceScorer relevanceScorer;
+
+    @Value("${job.pipeline.run-timeout-minutes:60}")
+    private long runTimeoutMinutes;
+
+    @Value("${job.pipeline.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${job.pipeline.fetch.workers:2}")
+    private int fetchWorkers;
+
+    @Value("${job.pipeline.fetch.max-in-flight:20}")
+    private int maxFetchesInFlight;
+
+    @Value("${job.pipeline.fetch.retry-delay-seconds:300}")
+    private long transientFailureRetryDelaySeconds;
+
+    @Value("${job.pipeline.persist.workers:2}")
+    private int persistWorkers;
+
+    @Value("${job.pipeline.match.workers:4}")
+    private int matchWorkers;
+
+    @Value("${job.pipeline.dedupe.workers:2}")
+    private int dedupeWorkers;
+
+    @Value("${job.pipeline.email.workers:2}")
+    private int emailWorkers;
+
+    private PipelineStage<SearchTask> fetchStage;
+    private PipelineStage<FetchedSearch> persistStage;
+    private PipelineStage<MatchTask> matchStage;
+    private PipelineStage<AlertDelivery> dedupeStage;
+    private PipelineStage<AlertDelivery> emailStage;
+    private Semaphore fetchPermits;
+
+    private record SearchTask(RunTracker tracker, JSearchQueryKey key, List<JobAlertDTO.JobAlertResponse> alerts) {
+    }
+
+    private record FetchedSearch(RunTracker tracker, JSearchQueryKey key, List<JobAlertDTO.JobAlertResponse> alerts,
+                                 List<JSearchDTO.JobData> jobs) {
+    }
+
+    private record MatchTask(RunTracker tracker, List<JobAlertDTO.JobAlertResponse> alerts, List<JobVacancy> vacancies) {
+    }
+
+    private record AlertDelivery(RunTracker tracker, JobAlertDTO.JobAlertResponse alert, User user,
+                                 List<JobVacancy> jobs, boolean fannedOut) {
+    }
+
+    private record FanOut(JobAlertDTO.JobAlertResponse alert, Map<Long, JobVacancy> vacancies) {
+    }
+
+    private static class RunTracker {
+        private final SchedulerRun run;
+        private final Set<Long> alertIds;
+        private final Map<Long, FanOut> fanOuts = new ConcurrentHashMap<>();
+        private final AtomicInteger remainingAlerts;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        RunTracker(SchedulerRun run, Set<Long> alertIds, int alerts) {
+            this.run = run;
+            this.alertIds = alertIds;
+            this.remainingAlerts = new AtomicInteger(alerts);
+            if (alerts <= 0) {
+                completion.complete(null);
+            }
+        }
+
+        void release(int alerts) {
+            if (remainingAlerts.addAndGet(-alerts) <= 0) {
+                completion.complete(null);
+            }
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        fetchPermits = new Semaphore(maxFetchesInFlight);
+        emailStage = new PipelineStage<>("email", emailWorkers, queueCapacity,
+                this::sendEmail, this::failDelivery);
+        dedupeStage = new PipelineStage<>("dedupe", dedupeWorkers, queueCapacity,
+                this::filterDuplicates, this::failDelivery);
+        matchStage = new PipelineStage<>("match", matchWorkers, queueCapacity,
+                this::matchAlerts, (item, e) -> item.alerts().forEach(alert -> failAlert(item.tracker(), alert, e)));
+        persistStage = new PipelineStage<>("persist", persistWorkers, queueCapacity,
+                this::persistVacancies, (item, e) -> failSearch(item.tracker(), item.key(), item.alerts(), e));
+        fetchStage = new PipelineStage<>("fetch", fetchWorkers, queueCapacity,
+                this::fetchSearch, (item, e) -> failSearch(item.tracker(), item.key(), item.alerts(), e));
+
+        List.of(emailStage, dedupeStage, matchStage, persistStage, fetchStage).forEach(PipelineStage::start);
+    }
+
+    @PreDestroy
+    void stop() {
+        List.of(fetchStage, persistStage, matchStage, dedupeStage, emailStage).forEach(PipelineStage::stop);
+    }
+
+    public void process(SchedulerRun run, List<JobAlertDTO.JobAlertResponse> alerts,
+                        Map<String, List<Long>> fetchedSearches) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(runTimeoutMinutes);
+        refreshPercolator();
+
+        Map<JSearchQueryKey, List<JobAlertDTO.JobAlertResponse>> searchGroups = groupAlertsBySearch(alerts, run);
+        log.info("{} alertas agrupados em {} buscas distintas", alerts.size(), searchGroups.size());
+
+        int groupedAlerts = searchGroups.values().stream().mapToInt(List::size).sum();
+        RunTracker tracker = new RunTracker(run, alerts.stream()
+                .map(JobAlertDTO.JobAlertResponse::getId)
+                .collect(Collectors.toSet()), groupedAlerts);
+        boolean skipSingleAlertSearches = quotaService.shouldSkipSingleAlertSearches();
+
+        for (Map.Entry<JSearchQueryKey, List<JobAlertDTO.JobAlertResponse>> group : searchGroups.entrySet()) {
+            if (run.isCancelRequested()) {
+                tracker.release(group.getValue().size());
+                continue;
+            }
+
+            List<Long> fetchedVacancyIds = fetchedSearches.get(group.getKey().toString());
+            if (fetchedVacancyIds == null && skipSingleAlertSearches && group.getValue().size() == 1) {
+                log.info("Consumo da cota JSearch acima do planejado, busca '{}' de um único alerta adiada",
+                        group.getKey());
+                deferSearch(tracker, group.getKey(), group.getValue(), quotaService.getSkipDelay());
+                continue;
+            }
+
+            if (fetchedVacancyIds != null) {
+                log.debug("Busca '{}' já realizada nesta execução, reutilizando {} vagas",
+                        group.getKey(), fetchedVacancyIds.size());
+                List<JobVacancy> vacancies = jobMatchingService.getJobVacanciesByIds(fetchedVacancyIds);
+                matchStage.submit(new MatchTask(tracker, group.getValue(), vacancies));
+                continue;
+            }
+
+            fetchStage.submit(new SearchTask(tracker, group.getKey(), group.getValue()));
+        }
+
+        awaitCompletion(tracker, deadline);
+        deliverFanOuts(tracker, deadline);
+
+        log.info("{} alertas processados em {} ms", run.getAlertsDone(), System.currentTimeMillis() - startTime);
+    }
+
+    public List<SchedulerDTO.PipelineStageStats> getStats() {
+        SchedulerDTO.PipelineStageStats fetchStats = fetchStage.getStats();
+        fetchStats.setInFlight(maxFetchesInFlight - fetchPermits.availablePermits());
+        return List.of(fetchStats, persistStage.getStats(), matchStage.getStats(),
+                dedupeStage.getStats(), emailStage.getStats());
+    }
+
+    private Map<JSearchQueryKey, List<JobAlertDTO.JobAlertResponse>> groupAlertsBySearch(
+            List<JobAlertDTO.JobAlertResponse> alerts, SchedulerRun run) {
+        Map<JSearchQueryKey, List<JobAlertDTO.JobAlertResponse>> groups = new LinkedHashMap<>();
+
+        for (JobAlertDTO.JobAlertResponse alertResponse : alerts) {
+            if (alertResponse.getSearchQuery() == null || alertResponse.getSearchQuery().trim().isEmpty()) {
+                log.warn("Alerta {} tem query de busca vazia, pulando...", alertResponse.getId());
+                markAlertDone(run, alertResponse);
+                continue;
+            }
+
+            if (alertResponse.getLocation() == null || alertResponse.getLocation().trim().isEmpty()) {
+                log.warn("Alerta {} tem localização vazia, pulando...", alertResponse.getId());
+                markAlertDone(run, alertResponse);
+                continue;
+            }
+
+            JSearchQueryKey key = JSearchQueryKey.of(alertResponse.getSearchQuery(), alertResponse.getLocation(), null);
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(alertResponse);
+        }
+
+        return groups;
+    }
+
+    private void fetchSearch(SearchTask task) throws InterruptedException {
+        if (isCancelled(task.tracker(), task.alerts().size())) {
+            return;
+        }
+
+        JSearchQueryKey key = task.key();
+        log.debug("Buscando vagas para query: '{}' em: '{}' ({} alertas)",
+                key.query(), key.location(), task.alerts().size());
+
+        if (circuitBreaker.isOpen()) {
+            deferSearch(task.tracker(), key, task.alerts(), circuitBreaker.getRetryDelay());
+            return;
+        }
+
+        fetchPermits.acquire();
+        Mono.defer(() -> jobSearchCrawler.crawl(key))
+                .publishOn(Schedulers.boundedElastic())
+                .doFinally(signal -> fetchPermits.release())
+                .subscribe(
+                        result -> {
+                            task.tracker().run.apiCalls(result.pagesFetched());
+                            onSearchFetched(task, result.jobs());
+                        },
+                        error -> {
+                            if (error instanceof JSearchUnavailableException) {
+                                deferSearch(task.tracker(), key, task.alerts(), circuitBreaker.getRetryDelay());
+                                return;
+                            }
+                            task.tracker().run.apiCalls(1);
+                            if (error instanceof JSearchApiException apiError && apiError.isRetryable()) {
+                                log.warn("Falha transitória persistente na busca '{}': {}", key, error.getMessage());
+                                deferSearch(task.tracker(), key, task.alerts(),
+                                        Duration.ofSeconds(transientFailureRetryDelaySeconds));
+                                return;
+                            }
+                            failSearch(task.tracker(), key, task.alerts(),
+                                    error instanceof Exception e ? e : new RuntimeException(error));
+                        });
+    }
+
+    private void onSearchFetched(SearchTask task, List<JSearchDTO.JobData> jobs) {
+        JSearchQueryKey key = task.key();
+
+        if (jobs.isEmpty()) {
+            log.info("Nenhuma vaga encontrada na API para busca: '{}'", key);
+            task.alerts().forEach(alertResponse -> finishAlert(task.tracker(), alertResponse));
+            return;
+        }
+
+        log.info("API retornou {} vagas para busca '{}' compartilhada por {} alertas",
+                jobs.size(), key, task.alerts().size());
+
+        try {
+            persistStage.submit(new FetchedSearch(task.tracker(), key, task.alerts(), jobs));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failSearch(task.tracker(), key, task.alerts(), e);
+        }
+    }
+
+    private void persistVacancies(FetchedSearch fetched) throws InterruptedException {
+        if (isCancelled(fetched.tracker(), fetched.alerts().size())) {
+            return;
+        }
+
+        List<JobVacancy> vacancies = jobMatchingService.saveJobVacancies(fetched.jobs());
+        checkpointService.recordSearchFetched(fetched.tracker().run.getId(), fetched.key().toString(),
+                vacancies.stream().map(JobVacancy::getId).collect(Collectors.toList()));
+
+        fanOut(fetched.tracker(), fetched.key(), vacancies);
+
+        matchStage.submit(new MatchTask(fetched.tracker(), fetched.alerts(), vacancies));
+    }
+
+    private void fanOut(RunTracker tracker, JSearchQueryKey key, List<JobVacancy> vacancies) {
+        List<AlertPercolator.Match> matches = alertPercolator.percolate(vacancies, tracker.alertIds);
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        log.debug("Vagas da busca '{}' também atendem a {} alertas fora desta execução", key, matches.size());
+
+        for (AlertPercolator.Match match : matches) {
+            FanOut fanOut = tracker.fanOuts.computeIfAbsent(match.alert().getId(),
+                    id -> new FanOut(match.alert(), new LinkedHashMap<>()));
+            synchronized (fanOut) {
+                match.vacancies().forEach(vacancy -> fanOut.vacancies().putIfAbsent(vacancy.getId(), vacancy));
+            }
+        }
+    }
+
+    private void deliverFanOuts(RunTracker runTracker, long deadline) throws InterruptedException {
+        SchedulerRun run = runTracker.run;
+        if (runTracker.fanOuts.isEmpty() || run.isCancelRequested()) {
+            return;
+        }
+
+        log.info("Entregando vagas percoladas para {} alertas fora desta execução", runTracker.fanOuts.size());
+
+        RunTracker tracker = new RunTracker(run, runTracker.alertIds, runTracker.fanOuts.size());
+        for (FanOut fanOut : runTracker.fanOuts.values()) {
+            User user = run.isCancelRequested() ? null : getUserFromAlert(fanOut.alert());
+            if (user == null || user.getEmail() == null || user.getEmail().trim().isEmpty()) {
+                tracker.release(1);
+                continue;
+            }
+
+            List<JobVacancy> vacancies = new ArrayList<>(fanOut.vacancies().values());
+            run.alertFannedOut();
+            run.matched(vacancies.size());
+            dedupeStage.submit(new AlertDelivery(tracker, fanOut.alert(), user, vacancies, true));
+        }
+
+        awaitCompletion(tracker, deadline);
+    }
+
+    private void awaitCompletion(RunTracker tracker, long deadline) throws InterruptedException {
+        try {
+            tracker.completion.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            tracker.run.requestCancel();
+            throw new SchedulerRunTimeoutException("Execução " + tracker.run.getId()
+                    + " excedeu o tempo limite de " + runTimeoutMinutes + " minutos com "
+                    + tracker.remainingAlerts.get() + " alertas pendentes");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void matchAlerts(MatchTask task) {
+        if (isCancelled(task.tracker(), task.alerts().size())) {
+            return;
+        }
+
+        List<AlertMatcher> alertMatchers = task.alerts().stream()
+                .map(alertMatcherCache::get)
+                .collect(Collectors.toList());
+        Map<Long, List<JobVacancy>> matchedJobsByAlert = jobMatchingService.matchJobs(task.vacancies(), alertMatchers);
+
+        for (JobAlertDTO.JobAlertResponse alertResponse : task.alerts()) {
+            try {
+                deliverMatches(task.tracker(), alertResponse, matchedJobsByAlert.get(alertResponse.getId()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failAlert(task.tracker(), alertResponse, e);
+            } catch (Exception e) {
+                failAlert(task.tracker(), alertResponse, e);
+            }
+        }
+    }
+
+    private void deliverMatches(RunTracker tracker, JobAlertDTO.JobAlertResponse alertResponse,
+                                List<JobVacancy> matchedJobs) throws InterruptedException {
+        if (isCancelled(tracker, 1)) {
+            return;
+        }
+
+        log.debug("Processando alerta: {} - {}", alertResponse.getId(), alertResponse.getTitle());
+        if (matchedJobs == null || matchedJobs.isEmpty()) {
+            log.debug("Nenhuma vaga nova encontrada para alerta: {}", alertResponse.getTitle());
+            finishAlert(tracker, alertResponse);
+            return;
+        }
+
+        log.info("Encontradas {} vagas correspondentes para alerta: {}",
+                matchedJobs.size(), alertResponse.getTitle());
+        tracker.run.matched(matchedJobs.size());
+
+        User user = getUserFromAlert(alertResponse);
+        if (user == null || user.getEmail() == null || user.getEmail().trim().isEmpty()) {
+            log.warn("Usuário não encontrado ou email inválido para alerta: {}", alertResponse.getId());
+            finishAlert(tracker, alertResponse);
+            return;
+        }
+
+        dedupeStage.submit(new AlertDelivery(tracker, alertResponse, user, matchedJobs, false));
+    }
+
+    private void filterDuplicates(AlertDelivery delivery) throws InterruptedException {
+        if (isCancelled(delivery.tracker(), 1)) {
+            return;
+        }
+
+        List<JobVacancy> newJobs = jobDuplicateService.filterAlreadySentJobs(delivery.user(), delivery.jobs());
+        if (newJobs.isEmpty()) {
+            log.info("Todas as vagas já foram enviadas anteriormente para usuário: {}", delivery.user().getEmail());
+            finishDelivery(delivery);
+            return;
+        }
+
+        List<JobVacancy> selectedJobs = relevanceScorer.selectTop(alertMatcherCache.get(delivery.alert()), newJobs);
+        if (selectedJobs.size() < newJobs.size()) {
+            log.info("Alerta {}: {} vagas novas, enviando as {} mais relevantes",
+                    delivery.alert().getId(), newJobs.size(), selectedJobs.size());
+        }
+
+        emailStage.submit(new AlertDelivery(delivery.tracker(), delivery.alert(), delivery.user(), selectedJobs,
+                delivery.fannedOut()));
+    }
+
+    private void sendEmail(AlertDelivery delivery) {
+        if (isCancelled(delivery.tracker(), 1)) {
+            return;
+        }
+
+        User user = delivery.user();
+        String alertTitle = delivery.alert().getTitle();
+
+        emailService.sendJobAlertEmail(user, delivery.jobs(), alertTitle);
+        jobDuplicateService.markJobsAsSent(user, delivery.jobs(), alertTitle);
+        delivery.tracker().run.emailSent();
+        log.info("Email enviado com {} vagas novas para: {}", delivery.jobs().size(), user.getEmail());
+
+        finishDelivery(delivery);
+    }
+
+    private boolean isCancelled(RunTracker tracker, int alerts) {
+        if (tracker.run.isCancelRequested()) {
+            tracker.release(alerts);
+            return true;
+        }
+        return false;
+    }
+
+    private void finishAlert(RunTracker tracker, JobAlertDTO.JobAlertResponse alertResponse) {
+        markAlertDone(tracker.run, alertResponse);
+        tracker.release(1);
+    }
+
+    private void markAlertDone(SchedulerRun run, JobAlertDTO.JobAlertResponse alertResponse) {
+        updateLastCheckedSafely(alertResponse.getId());
+        checkpointService.recordAlertDone(run.getId(), alertResponse.getId());
+        run.alertDone();
+    }
+
+    private void finishDelivery(AlertDelivery delivery) {
+        if (delivery.fannedOut()) {
+            delivery.tracker().release(1);
+            return;
+        }
+        finishAlert(delivery.tracker(), delivery.alert());
+    }
+
+    private void failDelivery(AlertDelivery delivery, Exception e) {
+        if (delivery.fannedOut()) {
+            log.error("Erro ao entregar vagas percoladas para alerta {}: {}", delivery.alert().getId(), e.getMessage());
+            delivery.tracker().run.error();
+            delivery.tracker().release(1);
+            return;
+        }
+        failAlert(delivery.tracker(), delivery.alert(), e);
+    }
+
+    private void refreshPercolator() {
+        try {
+            alertPercolator.refresh();
+        } catch (Exception e) {
+            log.error("Erro ao atualizar índice de percolação: {}", e.getMessage(), e);
+        }
+    }
+
+    private void failAlert(RunTracker tracker, JobAlertDTO.JobAlertResponse alertResponse, Exception e) {
+        log.error("Erro detalhado ao processar alerta {}: {}", alertResponse.getId(), e.getMessage());
+        tracker.run.error();
+        finishAlert(tracker, alertResponse);
+    }
+
+    private void failSearch(RunTracker tracker, JSearchQueryKey key, List<JobAlertDTO.JobAlertResponse> alerts,
+                            Exception e) {
+        log.error("Erro ao buscar vagas para '{}': {}", key, e.getMessage());
+        tracker.run.error();
+        alerts.forEach(alertResponse -> finishAlert(tracker, alertResponse));
+    }
+
+    private void deferSearch(RunTracker tracker, JSearchQueryKey key, List<JobAlertDTO.JobAlertResponse> alerts,
+                             Duration delay) {
+        log.warn("Adiando {} alertas da busca '{}' por {}s",
+                alerts.size(), key, delay.toSeconds());
+        for (JobAlertDTO.JobAlertResponse alertResponse : alerts) {
+            try {
+                jobAlertService.deferAlert(alertResponse.getId(), delay);
+            } catch (Exception e) {
+                log.error("Erro ao adiar alerta {}: {}", alertResponse.getId(), e.getMessage());
+            }
+            checkpointService.recordAlertDone(tracker.run.getId(), alertResponse.getId());
+            tracker.run.alertDeferred();
+            tracker.release(1);
+        }
+    }
+
+    private void updateLastCheckedSafely(Long alertId) {
+        try {
+            jobAlertService.updateLastChecked(alertId);
+        } catch (Exception updateError) {
+            log.error("Erro ao atualizar lastChecked para alerta {}: {}", alertId, updateError.getMessage());
+        }
+    }
+
+    private User getUserFromAlert(JobAlertDTO.JobAlertResponse alertResponse) {
+        try {
+            if (alertResponse == null || alertResponse.getId() == null) {
+                log.error("AlertResponse ou ID é null");
+                return null;
+            }
+
+            JobAlert fullAlert = jobAlertService.getJobAlertEntityById(alertResponse.getId());
+            if (fullAlert == null) {
+                log.error("JobAlert não encontrado para ID: {}", alertResponse.getId());
+                return null;
+            }
+
+            User user = fullAlert.getUser();
+            if (user == null) {
+                log.error("Usuário é null para alerta ID: {}", alertResponse.getId());
+                return null;
+            }
+
+            log.debug("Usuário encontrado: {} ({})", user.getName(), user.getEmail());
+            return user;
+
+        } catch (Exception e) {
+            log.error("Erro ao buscar usuário do alerta {}: {}", alertResponse.getId(), e.getMessage(), e);
+            return null;
+        }
+    }
+}
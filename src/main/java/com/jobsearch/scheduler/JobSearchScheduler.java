@@ -1,19 +1,30 @@
 package com.jobsearch.scheduler;
 
-import com.jobsearch.dto.JSearchDTO;
 import com.jobsearch.dto.JobAlertDTO;
-import com.jobsearch.entity.JobAlert;
-import com.jobsearch.entity.JobVacancy;
-import com.jobsearch.entity.User;
-import com.jobsearch.service.*;
+import com.jobsearch.entity.SchedulerRunRecord;
+import com.jobsearch.exception.SchedulerRunInProgressException;
+import com.jobsearch.service.JSearchCircuitBreaker;
+import com.jobsearch.service.JSearchQuotaService;
+import com.jobsearch.service.JobAlertService;
+import com.jobsearch.service.PartitionLeaseService;
+import com.jobsearch.service.SchedulerCheckpointService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -22,204 +33,163 @@ import java.util.Collections;
 public class JobSearchScheduler {
 
     private final JobAlertService jobAlertService;
-    private final UserService userService;
-    private final JSearchService jSearchService;
-    private final JobMatchingService jobMatchingService;
-    private final EmailService emailService;
-    private final JobDuplicateService jobDuplicateService;
-
-    @Scheduled(fixedRateString = "${job.scheduler.fixed-rate:3600000}")
-    public void searchJobsForAllAlerts() {
-        log.info("Iniciando busca automática de empregos...");
-
-        try {
-            List<JobAlertDTO.JobAlertResponse> activeAlerts = jobAlertService.getAllActiveAlerts();
-            log.info("Encontrados {} alertas ativos para processar", activeAlerts.size());
-
-            for (JobAlertDTO.JobAlertResponse alertResponse : activeAlerts) {
-                try {
-                    processJobAlert(alertResponse);
-                    Thread.sleep(2000);
-                } catch (Exception e) {
-                    log.error("Erro ao processar alerta {}: {}", alertResponse.getId(), e.getMessage(), e);
-                }
-            }
-
-            log.info("Busca automática concluída");
+    private final PartitionLeaseService partitionLeaseService;
+    private final SchedulerRunRegistry runRegistry;
+    private final AlertPipeline alertPipeline;
+    private final SchedulerCheckpointService checkpointService;
+    private final JSearchCircuitBreaker circuitBreaker;
+    private final JSearchQuotaService quotaService;
+
+    @Value("${job.scheduler.batch-size:1000}")
+    private int batchSize;
+
+    private ExecutorService runExecutor;
+
+    @PostConstruct
+    void initExecutor() {
+        runExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduler-run");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
-        } catch (Exception e) {
-            log.error("Erro na busca automática de empregos: {}", e.getMessage(), e);
+    @PreDestroy
+    void shutdownExecutor() throws InterruptedException {
+        runRegistry.getActiveRun().ifPresent(SchedulerRun::interrupt);
+        runExecutor.shutdown();
+        if (!runExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
+            runExecutor.shutdownNow();
         }
     }
 
-    private void processJobAlert(JobAlertDTO.JobAlertResponse alertResponse) {
-        log.debug("Processando alerta: {} - {}", alertResponse.getId(), alertResponse.getTitle());
-
-        try {
-            if (alertResponse.getSearchQuery() == null || alertResponse.getSearchQuery().trim().isEmpty()) {
-                log.warn("Alerta {} tem query de busca vazia, pulando...", alertResponse.getId());
-                return;
-            }
-
-            if (alertResponse.getLocation() == null || alertResponse.getLocation().trim().isEmpty()) {
-                log.warn("Alerta {} tem localização vazia, pulando...", alertResponse.getId());
-                return;
-            }
+    @Scheduled(fixedDelayString = "${job.cluster.heartbeat-interval:15000}")
+    public void renewPartitionLeases() {
+        partitionLeaseService.heartbeat(runRegistry.getActiveRun().isPresent());
+        runRegistry.getActiveRun().ifPresent(run -> checkpointService.heartbeat(run.getId()));
+    }
 
-            log.debug("Buscando vagas para query: '{}' em: '{}'",
-                    alertResponse.getSearchQuery(), alertResponse.getLocation());
+    @Scheduled(fixedDelayString = "${job.scheduler.poll-interval:60000}",
+            initialDelayString = "${job.scheduler.initial-delay:10000}")
+    public void processDueAlerts() {
+        if (runRegistry.getActiveRun().isPresent()) {
+            log.debug("Execução em andamento, ignorando verificação de alertas pendentes");
+            return;
+        }
 
-            JSearchDTO.JobSearchResponse searchResponse = jSearchService.searchJobsWithFilters(
-                    alertResponse.getSearchQuery().trim(),
-                    alertResponse.getLocation().trim(),
-                    null,
-                    1
-            );
+        if (circuitBreaker.isOpen()) {
+            log.info("Circuito da API JSearch aberto, verificação de alertas adiada por {}s",
+                    circuitBreaker.getRetryDelay().toSeconds());
+            return;
+        }
 
-            if (searchResponse == null) {
-                log.warn("Resposta da API JSearch é null para alerta: {}", alertResponse.getId());
-                jobAlertService.updateLastChecked(alertResponse.getId());
-                return;
-            }
+        if (quotaService.isExhausted()) {
+            log.warn("Cota mensal da JSearch esgotada, verificação de alertas suspensa até o próximo período");
+            return;
+        }
 
-            if (searchResponse.getData() == null || searchResponse.getData().isEmpty()) {
-                log.info("Nenhuma vaga encontrada na API para alerta: {}", alertResponse.getTitle());
-                jobAlertService.updateLastChecked(alertResponse.getId());
+        try {
+            if (resumeOrphanedRun()) {
                 return;
             }
 
-            log.info("API retornou {} vagas para alerta: {}",
-                    searchResponse.getData().size(), alertResponse.getTitle());
-
-            JobAlert jobAlert = convertToJobAlert(alertResponse);
-            if (jobAlert == null) {
-                log.error("Erro ao converter JobAlertResponse para JobAlert - ID: {}", alertResponse.getId());
+            List<JobAlertDTO.JobAlertResponse> dueAlerts = loadDueAlerts();
+            if (dueAlerts.isEmpty()) {
+                log.debug("Nenhum alerta pendente de verificação");
                 return;
             }
 
-            List<JobVacancy> matchedJobs = jobMatchingService.processAndMatchJobs(searchResponse, jobAlert);
-
-            if (matchedJobs != null && !matchedJobs.isEmpty()) {
-                log.info("Encontradas {} vagas correspondentes para alerta: {}",
-                        matchedJobs.size(), alertResponse.getTitle());
-
-                User user = getUserFromAlert(alertResponse);
-                if (user != null && user.getEmail() != null && !user.getEmail().trim().isEmpty()) {
-
-                    List<JobVacancy> newJobs = jobDuplicateService.filterAlreadySentJobs(user, matchedJobs);
-
-                    if (!newJobs.isEmpty()) {
-                        try {
-                            emailService.sendJobAlertEmail(user, newJobs, alertResponse.getTitle());
-                            jobDuplicateService.markJobsAsSent(user, newJobs, alertResponse.getTitle());
-                            log.info("Email enviado com {} vagas novas para: {}", newJobs.size(), user.getEmail());
-                        } catch (Exception emailError) {
-                            log.error("Erro ao enviar email para {}: {}", user.getEmail(), emailError.getMessage());
-                        }
-                    } else {
-                        log.info("Todas as vagas já foram enviadas anteriormente para usuário: {}", user.getEmail());
-                    }
-                } else {
-                    log.warn("Usuário não encontrado ou email inválido para alerta: {}", alertResponse.getId());
-                }
-            } else {
-                log.debug("Nenhuma vaga nova encontrada para alerta: {}", alertResponse.getTitle());
-            }
-
-            jobAlertService.updateLastChecked(alertResponse.getId());
+            runRegistry.tryStart(SchedulerRun.Trigger.SCHEDULED)
+                    .ifPresentOrElse(
+                            run -> executeRun(run, dueAlerts),
+                            () -> log.info("Execução em andamento, {} alertas pendentes aguardarão o próximo ciclo",
+                                    dueAlerts.size()));
 
         } catch (Exception e) {
-            log.error("Erro detalhado ao processar alerta {}: {}", alertResponse.getId(), e.getMessage(), e);
-            try {
-                jobAlertService.updateLastChecked(alertResponse.getId());
-            } catch (Exception updateError) {
-                log.error("Erro ao atualizar lastChecked para alerta {}: {}",
-                        alertResponse.getId(), updateError.getMessage());
-            }
+            log.error("Erro ao processar alertas pendentes: {}", e.getMessage(), e);
         }
     }
 
-    private User getUserFromAlert(JobAlertDTO.JobAlertResponse alertResponse) {
-        try {
-            if (alertResponse == null || alertResponse.getId() == null) {
-                log.error("AlertResponse ou ID é null");
-                return null;
-            }
-
-            JobAlert fullAlert = jobAlertService.getJobAlertEntityById(alertResponse.getId());
-            if (fullAlert == null) {
-                log.error("JobAlert não encontrado para ID: {}", alertResponse.getId());
-                return null;
-            }
+    public SchedulerRun startManualRun() {
+        SchedulerRun run = runRegistry.tryStart(SchedulerRun.Trigger.MANUAL)
+                .orElseThrow(() -> new SchedulerRunInProgressException("Execução "
+                        + runRegistry.getActiveRun().map(SchedulerRun::getId).orElse("")
+                        + " ainda está em andamento"));
 
-            User user = fullAlert.getUser();
-            if (user == null) {
-                log.error("Usuário é null para alerta ID: {}", alertResponse.getId());
-                return null;
+        runExecutor.execute(() -> {
+            try {
+                List<JobAlertDTO.JobAlertResponse> activeAlerts = jobAlertService.getAllActiveAlerts().stream()
+                        .filter(alertResponse -> partitionLeaseService.ownsAlert(alertResponse.getId()))
+                        .collect(Collectors.toList());
+                executeRun(run, activeAlerts);
+            } catch (Exception e) {
+                log.error("Erro na busca de empregos: {}", e.getMessage(), e);
+                runRegistry.fail(run, e);
             }
+        });
 
-            log.debug("Usuário encontrado: {} ({})", user.getName(), user.getEmail());
-            return user;
+        return run;
+    }
 
-        } catch (Exception e) {
-            log.error("Erro ao buscar usuário do alerta {}: {}", alertResponse.getId(), e.getMessage(), e);
-            return null;
+    private boolean resumeOrphanedRun() {
+        Optional<SchedulerRunRecord> orphaned = checkpointService.claimOrphanedRun(
+                runRegistry.getActiveRun().map(SchedulerRun::getId).orElse(null));
+        if (orphaned.isEmpty()) {
+            return false;
         }
-    }
 
-    private JobAlert convertToJobAlert(JobAlertDTO.JobAlertResponse alertResponse) {
-        try {
-            if (alertResponse == null) {
-                log.error("AlertResponse é null");
-                return null;
-            }
+        SchedulerRunRecord record = orphaned.get();
+        Set<Long> doneAlertIds = checkpointService.getDoneAlertIds(record.getId());
+        List<Long> pendingAlertIds = checkpointService.getRunAlertIds(record).stream()
+                .filter(alertId -> !doneAlertIds.contains(alertId))
+                .collect(Collectors.toList());
+
+        List<JobAlertDTO.JobAlertResponse> pendingAlerts = jobAlertService.getActiveAlertsByIds(pendingAlertIds).stream()
+                .filter(alertResponse -> partitionLeaseService.ownsAlert(alertResponse.getId()))
+                .collect(Collectors.toList());
+        Map<String, List<Long>> fetchedSearches = checkpointService.getFetchedSearches(record.getId());
+
+        log.info("Retomando execução {}: {} alertas concluídos, {} pendentes, {} buscas já realizadas",
+                record.getId(), doneAlertIds.size(), pendingAlerts.size(), fetchedSearches.size());
+
+        runRegistry.tryResume(record.getId(), doneAlertIds.size())
+                .ifPresentOrElse(
+                        run -> {
+                            run.setTotalAlerts(record.getTotalAlerts());
+                            executeRun(run, pendingAlerts, fetchedSearches);
+                        },
+                        () -> checkpointService.recordRunInterrupted(record.getId()));
+        return true;
+    }
 
-            JobAlert jobAlert = new JobAlert();
-            jobAlert.setId(alertResponse.getId());
-            jobAlert.setTitle(alertResponse.getTitle());
-            jobAlert.setSearchQuery(alertResponse.getSearchQuery());
-            jobAlert.setLocation(alertResponse.getLocation());
-            jobAlert.setLocationType(alertResponse.getLocationType());
-            jobAlert.setExperienceLevel(alertResponse.getExperienceLevel());
-            jobAlert.setMinimumMatchingTags(alertResponse.getMinimumMatchingTags() != null ?
-                    alertResponse.getMinimumMatchingTags() : 1);
-            jobAlert.setIsActive(alertResponse.getIsActive() != null ? alertResponse.getIsActive() : true);
-            jobAlert.setCreatedAt(alertResponse.getCreatedAt());
-            jobAlert.setLastChecked(alertResponse.getLastChecked());
-
-            if (alertResponse.getTags() != null && !alertResponse.getTags().isEmpty()) {
-                try {
-                    java.util.Set<com.jobsearch.entity.AlertTag> alertTags = alertResponse.getTags().stream()
-                            .filter(tagResponse -> tagResponse != null && tagResponse.getTag() != null)
-                            .map(tagResponse -> {
-                                com.jobsearch.entity.AlertTag alertTag = new com.jobsearch.entity.AlertTag();
-                                alertTag.setId(tagResponse.getId());
-                                alertTag.setTag(tagResponse.getTag());
-                                alertTag.setIsRequired(tagResponse.getIsRequired() != null ?
-                                        tagResponse.getIsRequired() : false);
-                                alertTag.setJobAlert(jobAlert);
-                                return alertTag;
-                            })
-                            .collect(java.util.stream.Collectors.toSet());
-
-                    jobAlert.setAlertTags(alertTags);
-                    log.debug("Convertidas {} tags para alerta {}", alertTags.size(), alertResponse.getId());
-                } catch (Exception tagError) {
-                    log.error("Erro ao converter tags para alerta {}: {}",
-                            alertResponse.getId(), tagError.getMessage());
-                    jobAlert.setAlertTags(Collections.emptySet());
-                }
-            } else {
-                log.debug("Alerta {} não possui tags", alertResponse.getId());
-                jobAlert.setAlertTags(Collections.emptySet());
-            }
+    private List<JobAlertDTO.JobAlertResponse> loadDueAlerts() {
+        if (partitionLeaseService.isClusterEnabled()) {
+            return jobAlertService.getDueAlerts(batchSize, partitionLeaseService.getPartitionCount(),
+                    partitionLeaseService.getOwnedPartitions());
+        }
+        return jobAlertService.getDueAlerts(batchSize);
+    }
 
-            return jobAlert;
+    private void executeRun(SchedulerRun run, List<JobAlertDTO.JobAlertResponse> alerts) {
+        run.setTotalAlerts(alerts.size());
+        checkpointService.recordRunStarted(run.getId(), run.getTrigger().name(), alerts.stream()
+                .map(JobAlertDTO.JobAlertResponse::getId)
+                .collect(Collectors.toList()));
+        executeRun(run, alerts, Map.of());
+    }
 
+    private void executeRun(SchedulerRun run, List<JobAlertDTO.JobAlertResponse> alerts,
+                            Map<String, List<Long>> fetchedSearches) {
+        try {
+            log.info("Execução {}: {} alertas para processar", run.getId(), alerts.size());
+            alertPipeline.process(run, alerts, fetchedSearches);
+            runRegistry.complete(run);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            runRegistry.fail(run, e);
         } catch (Exception e) {
-            log.error("Erro ao converter JobAlertResponse para JobAlert - ID: {}, Erro: {}",
-                    alertResponse != null ? alertResponse.getId() : "null", e.getMessage(), e);
-            return null;
+            log.error("Erro na execução {}: {}", run.getId(), e.getMessage(), e);
+            runRegistry.fail(run, e);
         }
     }
-}
\ No newline at end of file
+}
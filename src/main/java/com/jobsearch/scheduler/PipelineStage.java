@@ -0,0 +1,160 @@
+package com.jobsearch.scheduler;
+
+import com.jobsearch.dto.SchedulerDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class PipelineStage<T> {
+
+    private static final int THROUGHPUT_WINDOW_SECONDS = 60;
+
+    @FunctionalInterface
+    public interface Handler<T> {
+        void handle(T item) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface FailureHandler<T> {
+        void onFailure(T item, Exception error);
+    }
+
+    private final String name;
+    private final int workers;
+    private final int queueCapacity;
+    private final BlockingQueue<T> queue;
+    private final Handler<T> handler;
+    private final FailureHandler<T> failureHandler;
+    private final List<Thread> threads = new ArrayList<>();
+
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong totalProcessingNanos = new AtomicLong();
+    private final long[] completionsPerSecond = new long[THROUGHPUT_WINDOW_SECONDS];
+    private final long[] bucketSecond = new long[THROUGHPUT_WINDOW_SECONDS];
+
+    private volatile boolean running;
+
+    public PipelineStage(String name, int workers, int queueCapacity,
+                         Handler<T> handler, FailureHandler<T> failureHandler) {
+        this.name = name;
+        this.workers = Math.max(1, workers);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.queue = new ArrayBlockingQueue<>(this.queueCapacity);
+        this.handler = handler;
+        this.failureHandler = failureHandler;
+    }
+
+    public void start() {
+        running = true;
+        for (int i = 1; i <= workers; i++) {
+            Thread thread = new Thread(this::workLoop, "pipeline-" + name + "-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        log.info("Estágio '{}' iniciado com {} workers e fila de {}", name, workers, queueCapacity);
+    }
+
+    public void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+    }
+
+    public void submit(T item) throws InterruptedException {
+        queue.put(item);
+    }
+
+    public SchedulerDTO.PipelineStageStats getStats() {
+        long processedCount = processed.get();
+
+        SchedulerDTO.PipelineStageStats stats = new SchedulerDTO.PipelineStageStats();
+        stats.setName(name);
+        stats.setWorkers(workers);
+        stats.setBusyWorkers(busyWorkers.get());
+        stats.setQueueDepth(queue.size());
+        stats.setQueueCapacity(queueCapacity);
+        stats.setProcessed(processedCount);
+        stats.setFailed(failed.get());
+        stats.setAverageProcessingMillis(processedCount > 0
+                ? TimeUnit.NANOSECONDS.toMillis(totalProcessingNanos.get()) / (double) processedCount
+                : 0);
+        stats.setThroughputPerSecond(recentThroughput());
+        return stats;
+    }
+
+    private void workLoop() {
+        while (running) {
+            T item;
+            try {
+                item = queue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return;
+                }
+                continue;
+            }
+
+            if (item == null) {
+                continue;
+            }
+
+            busyWorkers.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                handler.handle(item);
+            } catch (InterruptedException e) {
+                Thread.interrupted();
+                failed.incrementAndGet();
+                log.warn("Item do estágio '{}' interrompido", name);
+                fail(item, e);
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                log.error("Erro no estágio '{}': {}", name, e.getMessage(), e);
+                fail(item, e);
+            } finally {
+                busyWorkers.decrementAndGet();
+                processed.incrementAndGet();
+                totalProcessingNanos.addAndGet(System.nanoTime() - start);
+                recordCompletion();
+            }
+        }
+    }
+
+    private void fail(T item, Exception error) {
+        try {
+            failureHandler.onFailure(item, error);
+        } catch (Exception e) {
+            log.error("Erro ao tratar falha no estágio '{}': {}", name, e.getMessage(), e);
+        }
+    }
+
+    private synchronized void recordCompletion() {
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        int bucket = Math.floorMod(second, THROUGHPUT_WINDOW_SECONDS);
+        if (bucketSecond[bucket] != second) {
+            bucketSecond[bucket] = second;
+            completionsPerSecond[bucket] = 0;
+        }
+        completionsPerSecond[bucket]++;
+    }
+
+    private synchronized double recentThroughput() {
+        long now = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long completions = 0;
+        for (int i = 0; i < THROUGHPUT_WINDOW_SECONDS; i++) {
+            if (now - bucketSecond[i] < THROUGHPUT_WINDOW_SECONDS) {
+                completions += completionsPerSecond[i];
+            }
+        }
+        return (double) completions / THROUGHPUT_WINDOW_SECONDS;
+    }
+}
@@ -0,0 +1,155 @@
+package com.jobsearch.scheduler;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+public class SchedulerRun {
+
+    public enum Trigger {
+        SCHEDULED,
+        MANUAL,
+        RESUMED
+    }
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        INTERRUPTED,
+        FAILED
+    }
+
+    private final String id;
+    private final Trigger trigger;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String errorMessage;
+    private volatile boolean cancelRequested;
+    private volatile boolean interrupted;
+    private volatile int totalAlerts;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final AtomicInteger alertsDone = new AtomicInteger();
+    @Getter(lombok.AccessLevel.NONE)
+    private final AtomicInteger alertsDeferred = new AtomicInteger();
+    @Getter(lombok.AccessLevel.NONE)
+    private final AtomicInteger alertsFannedOut = new AtomicInteger();
+    @Getter(lombok.AccessLevel.NONE)
+    private final AtomicInteger apiCalls = new AtomicInteger();
+    @Getter(lombok.AccessLevel.NONE)
+    private final AtomicInteger matches = new AtomicInteger();
+    @Getter(lombok.AccessLevel.NONE)
+    private final AtomicInteger emailsSent = new AtomicInteger();
+    @Getter(lombok.AccessLevel.NONE)
+    private final AtomicInteger errors = new AtomicInteger();
+
+    public SchedulerRun(Trigger trigger) {
+        this(UUID.randomUUID().toString(), trigger);
+    }
+
+    public SchedulerRun(String id, Trigger trigger) {
+        this.id = id;
+        this.trigger = trigger;
+    }
+
+    public void setTotalAlerts(int totalAlerts) {
+        this.totalAlerts = totalAlerts;
+    }
+
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+    public void interrupt() {
+        interrupted = true;
+        cancelRequested = true;
+    }
+
+    public boolean isActive() {
+        return status == Status.RUNNING;
+    }
+
+    public void alertDone() {
+        alertsDone.incrementAndGet();
+    }
+
+    public void alertsAlreadyDone(int count) {
+        alertsDone.addAndGet(count);
+    }
+
+    public void alertDeferred() {
+        alertsDeferred.incrementAndGet();
+    }
+
+    public void alertFannedOut() {
+        alertsFannedOut.incrementAndGet();
+    }
+
+    public void apiCalls(int count) {
+        apiCalls.addAndGet(count);
+    }
+
+    public void matched(int count) {
+        matches.addAndGet(count);
+    }
+
+    public void emailSent() {
+        emailsSent.incrementAndGet();
+    }
+
+    public void error() {
+        errors.incrementAndGet();
+    }
+
+    public int getAlertsDone() {
+        return alertsDone.get();
+    }
+
+    public int getAlertsDeferred() {
+        return alertsDeferred.get();
+    }
+
+    public int getAlertsFannedOut() {
+        return alertsFannedOut.get();
+    }
+
+    public int getApiCalls() {
+        return apiCalls.get();
+    }
+
+    public int getMatches() {
+        return matches.get();
+    }
+
+    public int getEmailsSent() {
+        return emailsSent.get();
+    }
+
+    public int getErrors() {
+        return errors.get();
+    }
+
+    void complete() {
+        if (interrupted) {
+            finish(Status.INTERRUPTED);
+        } else {
+            finish(cancelRequested ? Status.CANCELLED : Status.COMPLETED);
+        }
+    }
+
+    void fail(String message) {
+        errorMessage = message;
+        finish(interrupted ? Status.INTERRUPTED : Status.FAILED);
+    }
+
+    private void finish(Status finalStatus) {
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+}
@@ -0,0 +1,109 @@
+package com.jobsearch.scheduler;
+
+import com.jobsearch.exception.SchedulerRunNotFoundException;
+import com.jobsearch.service.SchedulerCheckpointService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerRunRegistry {
+
+    private static final int MAX_RECENT_RUNS = 50;
+
+    private final SchedulerCheckpointService checkpointService;
+
+    private final AtomicReference<SchedulerRun> activeRun = new AtomicReference<>();
+
+    private final Map<String, SchedulerRun> recentRuns = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SchedulerRun> eldest) {
+                    return size() > MAX_RECENT_RUNS;
+                }
+            });
+
+    private volatile SchedulerRun lastRun;
+
+    public Optional<SchedulerRun> tryStart(SchedulerRun.Trigger trigger) {
+        return register(new SchedulerRun(trigger));
+    }
+
+    public Optional<SchedulerRun> tryResume(String runId, int alertsAlreadyDone) {
+        SchedulerRun run = new SchedulerRun(runId, SchedulerRun.Trigger.RESUMED);
+        run.alertsAlreadyDone(alertsAlreadyDone);
+        return register(run);
+    }
+
+    public void complete(SchedulerRun run) {
+        run.complete();
+        release(run);
+    }
+
+    public void fail(SchedulerRun run, Exception e) {
+        run.fail(e.getMessage());
+        release(run);
+    }
+
+    public SchedulerRun cancel(String runId) {
+        SchedulerRun run = getRun(runId);
+        if (run.isActive()) {
+            run.requestCancel();
+            log.info("Cancelamento solicitado para execução {}", runId);
+        }
+        return run;
+    }
+
+    public SchedulerRun getRun(String runId) {
+        SchedulerRun run = recentRuns.get(runId);
+        if (run == null) {
+            throw new SchedulerRunNotFoundException("Execução não encontrada com ID: " + runId);
+        }
+        return run;
+    }
+
+    public Optional<SchedulerRun> getActiveRun() {
+        return Optional.ofNullable(activeRun.get());
+    }
+
+    public Optional<SchedulerRun> getLastRun() {
+        return Optional.ofNullable(lastRun);
+    }
+
+    private Optional<SchedulerRun> register(SchedulerRun run) {
+        if (!activeRun.compareAndSet(null, run)) {
+            return Optional.empty();
+        }
+
+        recentRuns.put(run.getId(), run);
+        log.info("Execução {} iniciada ({})", run.getId(), run.getTrigger());
+        return Optional.of(run);
+    }
+
+    private void release(SchedulerRun run) {
+        lastRun = run;
+        activeRun.compareAndSet(run, null);
+
+        try {
+            if (run.getStatus() == SchedulerRun.Status.INTERRUPTED) {
+                checkpointService.recordRunInterrupted(run.getId());
+            } else {
+                checkpointService.recordRunFinished(run.getId(), run.getStatus().name());
+            }
+        } catch (Exception e) {
+            log.error("Erro ao registrar checkpoint final da execução {}: {}", run.getId(), e.getMessage());
+        }
+
+        log.info("Execução {} finalizada com status {}: {}/{} alertas, {} chamadas à API, {} matches, {} emails",
+                run.getId(), run.getStatus(), run.getAlertsDone(), run.getTotalAlerts(),
+                run.getApiCalls(), run.getMatches(), run.getEmailsSent());
+    }
+}
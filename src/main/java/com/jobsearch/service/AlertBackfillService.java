@@ -0,0 +1,144 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.entity.JobAlert;
+import com.jobsearch.entity.JobVacancy;
+import com.jobsearch.entity.User;
+import com.jobsearch.exception.JobAlertInactiveException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AlertBackfillService {
+
+    private static final int LOAD_BATCH_SIZE = 200;
+
+    private final JobAlertService jobAlertService;
+    private final AlertMatcherCache alertMatcherCache;
+    private final VacancySearchIndex vacancySearchIndex;
+    private final JobMatchingService jobMatchingService;
+    private final JobDuplicateService jobDuplicateService;
+    private final EmailService emailService;
+    private final RelevanceScorer relevanceScorer;
+
+    @Value("${job.search-index.backfill-max-age-days:30}")
+    private int maxAgeDays;
+
+    @Value("${job.search-index.max-results:50}")
+    private int maxResults;
+
+    private ExecutorService deliveryExecutor;
+
+    @PostConstruct
+    void initExecutor() {
+        deliveryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "backfill-delivery");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdownExecutor() throws InterruptedException {
+        deliveryExecutor.shutdown();
+        if (!deliveryExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            deliveryExecutor.shutdownNow();
+        }
+    }
+
+    public JobAlertDTO.AlertPreviewResponse preview(Long alertId, Integer limit) {
+        long start = System.nanoTime();
+        JobAlertDTO.JobAlertResponse alert = jobAlertService.getJobAlertById(alertId);
+        AlertMatcher alertMatcher = alertMatcherCache.get(alert);
+        int maxJobs = limit != null && limit > 0 ? Math.min(limit, maxResults) : maxResults;
+
+        List<Long> candidates = vacancySearchIndex.findCandidates(alertMatcher);
+        LocalDateTime since = LocalDateTime.now().minusDays(maxAgeDays);
+        List<JobVacancy> matches = new ArrayList<>();
+
+        for (int from = 0; from < candidates.size() && matches.size() < maxJobs; from += LOAD_BATCH_SIZE) {
+            List<Long> batch = candidates.subList(from, Math.min(from + LOAD_BATCH_SIZE, candidates.size()));
+            for (JobVacancy vacancy : jobMatchingService.getJobVacanciesByIds(batch)) {
+                if (matches.size() >= maxJobs) {
+                    break;
+                }
+                if (isRecent(vacancy, since)
+                        && SearchTerms.locationMatches(alert.getLocation(), vacancy.getLocation())
+                        && alertMatcher.matches(JobMatchingService.searchTermsOf(vacancy))) {
+                    matches.add(vacancy);
+                }
+            }
+        }
+
+        JobAlertDTO.AlertPreviewResponse response = new JobAlertDTO.AlertPreviewResponse();
+        response.setAlertId(alertId);
+        response.setIndexedVacancies(vacancySearchIndex.size());
+        response.setCandidates(candidates.size());
+        response.setMatchedJobs(matches.size());
+        response.setTookMillis((System.nanoTime() - start) / 1_000_000.0);
+        response.setJobs(matches);
+
+        log.info("Prévia do alerta {}: {} candidatas, {} vagas correspondentes em {} ms",
+                alertId, candidates.size(), matches.size(), String.format("%.1f", response.getTookMillis()));
+        return response;
+    }
+
+    public JobAlertDTO.AlertPreviewResponse backfill(Long alertId, Integer limit) {
+        JobAlert alert = jobAlertService.getJobAlertEntityById(alertId);
+        if (!Boolean.TRUE.equals(alert.getIsActive())) {
+            throw new JobAlertInactiveException("Alerta " + alertId + " está inativo e não recebe backfill");
+        }
+
+        JobAlertDTO.AlertPreviewResponse response = preview(alertId, limit);
+        if (response.getJobs().isEmpty()) {
+            return response;
+        }
+
+        User user = alert.getUser();
+        AlertMatcher alertMatcher = AlertMatcher.compile(alert);
+        List<JobVacancy> newJobs = relevanceScorer.selectTop(alertMatcher,
+                jobDuplicateService.filterAlreadySentJobs(user, response.getJobs()));
+        if (!newJobs.isEmpty()) {
+            String alertTitle = alert.getTitle();
+            deliveryExecutor.execute(() -> deliver(alertId, alertTitle, user, newJobs));
+            log.info("Backfill do alerta {}: {} vagas na fila de envio para {}", alertId, newJobs.size(), user.getEmail());
+        }
+
+        response.setQueuedJobs(newJobs.size());
+        return response;
+    }
+
+    private void deliver(Long alertId, String alertTitle, User user, List<JobVacancy> jobs) {
+        try {
+            List<JobVacancy> newJobs = jobDuplicateService.filterAlreadySentJobs(user, jobs);
+            if (newJobs.isEmpty()) {
+                log.info("Backfill do alerta {}: vagas já enviadas por outra entrega", alertId);
+                return;
+            }
+
+            emailService.sendJobAlertEmail(user, newJobs, alertTitle);
+            jobDuplicateService.markJobsAsSent(user, newJobs, alertTitle);
+            log.info("Backfill do alerta {}: {} vagas enviadas para {}", alertId, newJobs.size(), user.getEmail());
+        } catch (Exception e) {
+            log.error("Erro ao enviar backfill do alerta {}: {}", alertId, e.getMessage(), e);
+        }
+    }
+
+    private boolean isRecent(JobVacancy vacancy, LocalDateTime since) {
+        LocalDateTime postedAt = vacancy.getPublishedAt() != null ? vacancy.getPublishedAt() : vacancy.getCreatedAt();
+        return postedAt == null || postedAt.isAfter(since);
+    }
+}
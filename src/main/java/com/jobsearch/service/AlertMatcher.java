@@ -0,0 +1,116 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.entity.JobAlert;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public final class AlertMatcher {
+
+    private record TagSpec(String tag, boolean required) {
+    }
+
+    private record TagTerm(String tag, String[] keys, List<String> words, boolean required) {
+    }
+
+    public record TagWords(List<String> words, boolean required) {
+    }
+
+    private final Long alertId;
+    private final String title;
+    private final List<TagTerm> tags;
+    private final int minimumTags;
+    private final LocalDateTime updatedAt;
+
+    private AlertMatcher(Long alertId, String title, List<TagTerm> tags, int minimumTags, LocalDateTime updatedAt) {
+        this.alertId = alertId;
+        this.title = title;
+        this.tags = tags;
+        this.minimumTags = minimumTags;
+        this.updatedAt = updatedAt;
+    }
+
+    public static AlertMatcher compile(JobAlertDTO.JobAlertResponse alert) {
+        List<TagSpec> tags = alert.getTags() == null ? List.of() : alert.getTags().stream()
+                .filter(Objects::nonNull)
+                .map(tag -> new TagSpec(tag.getTag(), Boolean.TRUE.equals(tag.getIsRequired())))
+                .toList();
+        return compile(alert.getId(), alert.getTitle(), alert.getMinimumMatchingTags(), alert.getUpdatedAt(), tags);
+    }
+
+    public static AlertMatcher compile(JobAlert alert) {
+        List<TagSpec> tags = alert.getAlertTags() == null ? List.of() : alert.getAlertTags().stream()
+                .filter(Objects::nonNull)
+                .map(tag -> new TagSpec(tag.getTag(), Boolean.TRUE.equals(tag.getIsRequired())))
+                .toList();
+        return compile(alert.getId(), alert.getTitle(), alert.getMinimumMatchingTags(), alert.getUpdatedAt(), tags);
+    }
+
+    private static AlertMatcher compile(Long alertId, String title, Integer minimumMatchingTags,
+                                        LocalDateTime updatedAt, Collection<TagSpec> tags) {
+        List<TagTerm> terms = new ArrayList<>();
+        for (TagSpec tag : tags) {
+            String[] keys = SearchTerms.keysOf(tag.tag());
+            if (keys.length > 0) {
+                terms.add(new TagTerm(tag.tag().trim(), keys, List.copyOf(SearchTerms.tokenize(tag.tag())),
+                        tag.required()));
+            }
+        }
+
+        return new AlertMatcher(alertId, title, List.copyOf(terms),
+                minimumMatchingTags != null && minimumMatchingTags > 0 ? minimumMatchingTags : 1, updatedAt);
+    }
+
+    public String findMissingRequiredTag(Set<String> vacancyTerms) {
+        for (TagTerm tag : tags) {
+            if (tag.required() && !SearchTerms.containsAll(vacancyTerms, tag.keys())) {
+                return tag.tag();
+            }
+        }
+        return null;
+    }
+
+    public int countMatchingTags(Set<String> vacancyTerms) {
+        int count = 0;
+        for (TagTerm tag : tags) {
+            if (SearchTerms.containsAll(vacancyTerms, tag.keys())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean matches(Set<String> vacancyTerms) {
+        return hasTags() && findMissingRequiredTag(vacancyTerms) == null
+                && countMatchingTags(vacancyTerms) >= minimumTags;
+    }
+
+    public List<TagWords> getTagWords() {
+        return tags.stream().map(tag -> new TagWords(tag.words(), tag.required())).toList();
+    }
+
+    public boolean hasTags() {
+        return !tags.isEmpty();
+    }
+
+    public boolean isCompiledFrom(JobAlertDTO.JobAlertResponse alert) {
+        return Objects.equals(updatedAt, alert.getUpdatedAt());
+    }
+
+    public Long getAlertId() {
+        return alertId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getMinimumTags() {
+        return minimumTags;
+    }
+}
@@ -0,0 +1,42 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JobAlertDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class AlertMatcherCache {
+
+    private final Map<Long, AlertMatcher> matchers = new ConcurrentHashMap<>();
+
+    public AlertMatcher get(JobAlertDTO.JobAlertResponse alert) {
+        if (alert.getId() == null) {
+            return AlertMatcher.compile(alert);
+        }
+        AlertMatcher cached = matchers.get(alert.getId());
+        if (cached != null && cached.isCompiledFrom(alert)) {
+            return cached;
+        }
+
+        AlertMatcher alertMatcher = AlertMatcher.compile(alert);
+        matchers.put(alert.getId(), alertMatcher);
+        return alertMatcher;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlertChanged(JobAlertChangedEvent event) {
+        if (matchers.remove(event.alertId()) != null) {
+            log.debug("Matcher do alerta {} invalidado", event.alertId());
+        }
+    }
+
+    public int size() {
+        return matchers.size();
+    }
+}
@@ -0,0 +1,204 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.entity.JobVacancy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AlertPercolator {
+
+    private final JobAlertService jobAlertService;
+    private final PartitionLeaseService partitionLeaseService;
+
+    @Value("${job.percolator.enabled:true}")
+    private boolean enabled;
+
+    private volatile Index index = Index.EMPTY;
+    private volatile boolean stale = true;
+    private volatile Set<Integer> indexedPartitions = Set.of();
+
+    public record Match(JobAlertDTO.JobAlertResponse alert, List<JobVacancy> vacancies) {
+    }
+
+    private record IndexedAlert(JobAlertDTO.JobAlertResponse alert, int[] requiredTagIds, int minimumTags,
+                                String[] locationKeys) {
+    }
+
+    private record Index(List<String[]> termKeys, Map<String, int[]> termsByFirstKey, List<IndexedAlert> alerts,
+                         int[][] postings) {
+        static final Index EMPTY = new Index(List.of(), Map.of(), List.of(), new int[0][]);
+
+        BitSet findTerms(Set<String> vacancyTerms) {
+            BitSet hits = new BitSet(termKeys.size());
+            if (termKeys.size() <= vacancyTerms.size()) {
+                for (int termId = 0; termId < termKeys.size(); termId++) {
+                    if (SearchTerms.containsAll(vacancyTerms, termKeys.get(termId))) {
+                        hits.set(termId);
+                    }
+                }
+                return hits;
+            }
+
+            for (String vacancyTerm : vacancyTerms) {
+                int[] termIds = termsByFirstKey.get(vacancyTerm);
+                if (termIds == null) {
+                    continue;
+                }
+                for (int termId : termIds) {
+                    if (SearchTerms.containsAll(vacancyTerms, termKeys.get(termId))) {
+                        hits.set(termId);
+                    }
+                }
+            }
+            return hits;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlertChanged(JobAlertChangedEvent event) {
+        stale = true;
+    }
+
+    public void refresh() {
+        Set<Integer> ownedPartitions = partitionLeaseService.getOwnedPartitions();
+        if (!enabled || (!stale && ownedPartitions.equals(indexedPartitions))) {
+            return;
+        }
+
+        stale = false;
+        indexedPartitions = ownedPartitions;
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            stale = true;
+            throw e;
+        }
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        List<JobAlertDTO.JobAlertResponse> activeAlerts = jobAlertService.getAllActiveAlerts().stream()
+                .filter(alertResponse -> partitionLeaseService.ownsAlert(alertResponse.getId()))
+                .filter(alertResponse -> alertResponse.getTags() != null && !alertResponse.getTags().isEmpty())
+                .collect(Collectors.toList());
+
+        Map<String, Integer> termIds = new HashMap<>();
+        List<String[]> termKeys = new ArrayList<>();
+        List<List<Integer>> postings = new ArrayList<>();
+        List<IndexedAlert> alerts = new ArrayList<>();
+
+        for (JobAlertDTO.JobAlertResponse alertResponse : activeAlerts) {
+            List<Integer> requiredTermIds = new ArrayList<>();
+            int alertIndex = alerts.size();
+            for (JobAlertDTO.TagResponse tag : alertResponse.getTags()) {
+                String[] keys = tag != null ? SearchTerms.keysOf(tag.getTag()) : new String[0];
+                if (keys.length == 0) {
+                    continue;
+                }
+
+                int termId = termIds.computeIfAbsent(String.join("|", keys), k -> {
+                    termKeys.add(keys);
+                    postings.add(new ArrayList<>());
+                    return termKeys.size() - 1;
+                });
+                postings.get(termId).add(alertIndex);
+                if (Boolean.TRUE.equals(tag.getIsRequired())) {
+                    requiredTermIds.add(termId);
+                }
+            }
+
+            Integer minimumTags = alertResponse.getMinimumMatchingTags();
+            alerts.add(new IndexedAlert(alertResponse,
+                    requiredTermIds.stream().mapToInt(Integer::intValue).toArray(),
+                    minimumTags != null && minimumTags > 0 ? minimumTags : 1,
+                    SearchTerms.locationKeysOf(alertResponse.getLocation())));
+        }
+
+        Map<String, List<Integer>> termsByFirstKey = new HashMap<>();
+        for (int termId = 0; termId < termKeys.size(); termId++) {
+            termsByFirstKey.computeIfAbsent(termKeys.get(termId)[0], k -> new ArrayList<>()).add(termId);
+        }
+
+        index = new Index(List.copyOf(termKeys),
+                termsByFirstKey.entrySet().stream().collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        entry -> entry.getValue().stream().mapToInt(Integer::intValue).toArray())),
+                alerts,
+                postings.stream()
+                        .map(posting -> posting.stream().mapToInt(Integer::intValue).toArray())
+                        .toArray(int[][]::new));
+
+        log.info("Índice de percolação atualizado: {} alertas, {} tags distintas em {} ms",
+                alerts.size(), termKeys.size(), System.currentTimeMillis() - start);
+    }
+
+    public List<Match> percolate(List<JobVacancy> vacancies, Set<Long> excludedAlertIds) {
+        Index current = index;
+        if (!enabled || current.alerts().isEmpty() || vacancies == null || vacancies.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, List<JobVacancy>> matchesByAlert = new LinkedHashMap<>();
+        int[] tagHitsPerAlert = new int[current.alerts().size()];
+
+        for (JobVacancy vacancy : vacancies) {
+            BitSet tagHits = current.findTerms(JobMatchingService.searchTermsOf(vacancy));
+            if (tagHits.isEmpty()) {
+                continue;
+            }
+
+            List<Integer> candidates = new ArrayList<>();
+            for (int tagId = tagHits.nextSetBit(0); tagId >= 0; tagId = tagHits.nextSetBit(tagId + 1)) {
+                for (int alertIndex : current.postings()[tagId]) {
+                    if (tagHitsPerAlert[alertIndex]++ == 0) {
+                        candidates.add(alertIndex);
+                    }
+                }
+            }
+
+            Set<String> vacancyLocation = SearchTerms.index(vacancy.getLocation());
+            for (int alertIndex : candidates) {
+                IndexedAlert indexed = current.alerts().get(alertIndex);
+                if (tagHitsPerAlert[alertIndex] >= indexed.minimumTags()
+                        && hasRequiredTags(indexed, tagHits)
+                        && SearchTerms.locationMatches(indexed.locationKeys(), vacancyLocation)
+                        && !excludedAlertIds.contains(indexed.alert().getId())) {
+                    matchesByAlert.computeIfAbsent(alertIndex, k -> new ArrayList<>()).add(vacancy);
+                }
+                tagHitsPerAlert[alertIndex] = 0;
+            }
+        }
+
+        return matchesByAlert.entrySet().stream()
+                .map(entry -> new Match(current.alerts().get(entry.getKey()).alert(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    public int getIndexedAlertCount() {
+        return index.alerts().size();
+    }
+
+    private boolean hasRequiredTags(IndexedAlert indexed, BitSet tagHits) {
+        for (int requiredTagId : indexed.requiredTagIds()) {
+            if (!tagHits.get(requiredTagId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package com.jobsearch.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+public class JSearchBulkhead {
+
+    @Value("${jsearch.bulkhead.max-concurrent-calls:50}")
+    private int maxConcurrentCalls;
+
+    private Semaphore permits;
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(maxConcurrentCalls);
+        log.info("Bulkhead JSearch: até {} chamadas simultâneas", maxConcurrentCalls);
+    }
+
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        rejectedCalls.incrementAndGet();
+        return false;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int getActiveCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.get();
+    }
+}
@@ -0,0 +1,192 @@
+package com.jobsearch.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class JSearchCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    @Value("${jsearch.circuit-breaker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jsearch.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${jsearch.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${jsearch.circuit-breaker.failure-rate-threshold:50}")
+    private double failureRateThreshold;
+
+    @Value("${jsearch.circuit-breaker.open-duration-seconds:30}")
+    private long openDurationSeconds;
+
+    @Value("${jsearch.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    private boolean[] outcomes;
+    private int outcomeIndex;
+    private int bufferedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openUntilNanos;
+    private LocalDateTime openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+    private long rejectedCalls;
+
+    @PostConstruct
+    void init() {
+        outcomes = new boolean[Math.max(1, windowSize)];
+        log.info("Circuit breaker JSearch: {}% de falhas em {} chamadas abre o circuito por {}s",
+                failureRateThreshold, windowSize, openDurationSeconds);
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (!enabled) {
+            return true;
+        }
+
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openUntilNanos < 0) {
+                rejectedCalls++;
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenCalls) {
+                rejectedCalls++;
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight > 0) {
+                halfOpenInFlight--;
+            }
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+
+        record(true);
+        if (state == State.CLOSED && bufferedCalls >= minimumCalls && getFailureRate() >= failureRateThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    public synchronized void onCancelled() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return enabled && state == State.OPEN && System.nanoTime() - openUntilNanos < 0;
+    }
+
+    public synchronized Duration getRetryDelay() {
+        if (state == State.OPEN) {
+            long remaining = openUntilNanos - System.nanoTime();
+            if (remaining > 0) {
+                return Duration.ofNanos(remaining);
+            }
+        }
+        return Duration.ofSeconds(openDurationSeconds);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return bufferedCalls > 0 ? failedCalls * 100.0 / bufferedCalls : 0;
+    }
+
+    public synchronized int getBufferedCalls() {
+        return bufferedCalls;
+    }
+
+    public synchronized int getFailedCalls() {
+        return failedCalls;
+    }
+
+    public synchronized long getRejectedCalls() {
+        return rejectedCalls;
+    }
+
+    public synchronized LocalDateTime getOpenedAt() {
+        return openedAt;
+    }
+
+    private void record(boolean failure) {
+        if (bufferedCalls == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                failedCalls--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+
+        outcomes[outcomeIndex] = failure;
+        if (failure) {
+            failedCalls++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State newState) {
+        State previous = state;
+        state = newState;
+
+        switch (newState) {
+            case OPEN -> {
+                openUntilNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(openDurationSeconds);
+                openedAt = LocalDateTime.now();
+                log.warn("Circuito da API JSearch ABERTO ({} -> OPEN, {}% de falhas): chamadas suspensas por {}s",
+                        previous, String.format("%.1f", getFailureRate()), openDurationSeconds);
+            }
+            case HALF_OPEN -> {
+                halfOpenInFlight = 0;
+                halfOpenSuccesses = 0;
+                log.info("Circuito da API JSearch SEMIABERTO: testando com até {} chamadas", halfOpenCalls);
+            }
+            case CLOSED -> {
+                bufferedCalls = 0;
+                failedCalls = 0;
+                outcomeIndex = 0;
+                openedAt = null;
+                log.info("Circuito da API JSearch FECHADO: chamadas normalizadas");
+            }
+        }
+    }
+}
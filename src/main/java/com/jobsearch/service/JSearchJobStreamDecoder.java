@@ -0,0 +1,156 @@
+package com.jobsearch.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.jobsearch.dto.JSearchDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Slf4j
+public class JSearchJobStreamDecoder {
+
+    private static final String DATA_FIELD = "data";
+    private static final int ROOT_DEPTH = 1;
+    private static final int DATA_ARRAY_DEPTH = 2;
+    private static final int JOB_DEPTH = 3;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public Flux<JSearchDTO.JobData> decode(Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+            DecoderState state = new DecoderState(createParser());
+            return body
+                    .concatMapIterable(buffer -> {
+                        try {
+                            byte[] bytes = new byte[buffer.readableByteCount()];
+                            buffer.read(bytes);
+                            return state.feed(bytes);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .concatWith(Mono.fromCallable(state::finish).flatMapIterable(jobs -> jobs))
+                    .doFinally(signal -> state.close());
+        });
+    }
+
+    private JsonParser createParser() {
+        try {
+            return jsonFactory.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class DecoderState {
+        private final JsonParser parser;
+        private int depth;
+        private boolean inData;
+        private String rootField;
+        private String jobField;
+        private JSearchDTO.JobData currentJob;
+
+        DecoderState(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        List<JSearchDTO.JobData> feed(byte[] bytes) {
+            try {
+                ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erro ao interpretar resposta da API JSearch", e);
+            }
+        }
+
+        List<JSearchDTO.JobData> finish() {
+            try {
+                ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).endOfInput();
+                return drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erro ao interpretar resposta da API JSearch", e);
+            }
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                log.debug("Erro ao fechar parser JSON: {}", e.getMessage());
+            }
+        }
+
+        private List<JSearchDTO.JobData> drain() throws IOException {
+            List<JSearchDTO.JobData> jobs = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                switch (token) {
+                    case START_OBJECT, START_ARRAY -> {
+                        depth++;
+                        if (token == JsonToken.START_ARRAY && depth == DATA_ARRAY_DEPTH
+                                && DATA_FIELD.equals(rootField)) {
+                            inData = true;
+                        } else if (token == JsonToken.START_OBJECT && inData && depth == JOB_DEPTH) {
+                            currentJob = new JSearchDTO.JobData();
+                        }
+                    }
+                    case END_OBJECT, END_ARRAY -> {
+                        if (token == JsonToken.END_OBJECT && inData && depth == JOB_DEPTH && currentJob != null) {
+                            jobs.add(currentJob);
+                            currentJob = null;
+                        } else if (token == JsonToken.END_ARRAY && inData && depth == DATA_ARRAY_DEPTH) {
+                            inData = false;
+                        }
+                        depth--;
+                    }
+                    case FIELD_NAME -> {
+                        if (depth == ROOT_DEPTH) {
+                            rootField = parser.currentName();
+                        } else if (depth == JOB_DEPTH) {
+                            jobField = parser.currentName();
+                        }
+                    }
+                    default -> {
+                        if (currentJob != null && depth == JOB_DEPTH && token != JsonToken.VALUE_NULL) {
+                            setField(currentJob, jobField);
+                        }
+                    }
+                }
+            }
+            return jobs;
+        }
+
+        private void setField(JSearchDTO.JobData job, String field) throws IOException {
+            switch (field) {
+                case "job_id" -> job.setJobId(parser.getText());
+                case "job_title" -> job.setJobTitle(parser.getText());
+                case "employer_name" -> job.setEmployerName(parser.getText());
+                case "job_description" -> job.setJobDescription(parser.getText());
+                case "job_apply_link" -> job.setJobApplyLink(parser.getText());
+                case "job_city" -> job.setJobCity(parser.getText());
+                case "job_state" -> job.setJobState(parser.getText());
+                case "job_country" -> job.setJobCountry(parser.getText());
+                case "job_employment_type" -> job.setJobEmploymentType(parser.getText());
+                case "job_posted_at_datetime_utc" -> job.setJobPostedAtDatetimeUtc(parser.getText());
+                case "job_posted_at_timestamp" -> job.setJobPostedAtTimestamp(parser.getValueAsLong());
+                case "job_min_salary" -> job.setJobMinSalary(parser.getValueAsDouble());
+                case "job_max_salary" -> job.setJobMaxSalary(parser.getValueAsDouble());
+                default -> {
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.jobsearch.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class JSearchLatencyTracker {
+
+    private static final int WINDOW_SIZE = 200;
+
+    @Value("${jsearch.hedging.min-samples:20}")
+    private int minSamples;
+
+    @Value("${jsearch.hedging.min-delay-ms:200}")
+    private long minHedgeDelayMillis;
+
+    private final long[] samples = new long[WINDOW_SIZE];
+    private int index;
+    private int count;
+
+    public synchronized void record(long nanos) {
+        samples[index] = nanos;
+        index = (index + 1) % WINDOW_SIZE;
+        count = Math.min(count + 1, WINDOW_SIZE);
+    }
+
+    public Optional<Duration> getHedgeDelay() {
+        long p95 = percentileMillis(0.95);
+        if (p95 < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofMillis(Math.max(p95, minHedgeDelayMillis)));
+    }
+
+    public long percentileMillis(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (count < minSamples) {
+                return -1;
+            }
+            sorted = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(sorted);
+        int position = (int) Math.ceil(percentile * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, position)]);
+    }
+}
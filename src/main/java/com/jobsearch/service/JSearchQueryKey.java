@@ -0,0 +1,26 @@
+package com.jobsearch.service;
+
+import java.util.Locale;
+
+public record JSearchQueryKey(String query, String location, String employmentType) {
+
+    public static JSearchQueryKey of(String query, String location, String employmentType) {
+        return new JSearchQueryKey(normalize(query), normalize(location), normalize(employmentType));
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        String normalized = value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    @Override
+    public String toString() {
+        return query
+                + (location != null ? " in " + location : "")
+                + (employmentType != null ? " [" + employmentType + "]" : "");
+    }
+}
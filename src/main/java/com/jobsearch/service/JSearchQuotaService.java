@@ -0,0 +1,225 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JSearchDTO;
+import com.jobsearch.entity.ApiQuotaUsage;
+import com.jobsearch.repository.ApiQuotaUsageRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JSearchQuotaService {
+
+    private static final int BURN_WINDOW_HOURS = 24;
+
+    private final ApiQuotaUsageRepository quotaUsageRepository;
+
+    @Value("${jsearch.quota.monthly-limit:0}")
+    private long monthlyLimit;
+
+    @Value("${jsearch.quota.reserve-percent:5}")
+    private double reservePercent;
+
+    @Value("${jsearch.quota.max-interval-multiplier:8}")
+    private double maxIntervalMultiplier;
+
+    @Value("${job.alert.default-polling-interval-minutes:60}")
+    private int defaultPollingIntervalMinutes;
+
+    private final AtomicLong pendingCalls = new AtomicLong();
+    private final Object flushLock = new Object();
+    private final Object burnLock = new Object();
+    private final Deque<UsageSample> usageSamples = new ArrayDeque<>();
+
+    private volatile YearMonth currentPeriod;
+    private volatile long persistedCalls;
+
+    private record UsageSample(LocalDateTime at, long calls) {
+    }
+
+    @PostConstruct
+    void init() {
+        currentPeriod = YearMonth.now();
+        persistedCalls = loadPersistedCalls(currentPeriod);
+        recordUsageSample(persistedCalls);
+
+        if (isEnabled()) {
+            log.info("Cota mensal da JSearch: {} requisições, {} usadas em {}", monthlyLimit, persistedCalls, currentPeriod);
+        } else {
+            log.info("Cota mensal da JSearch não configurada, planejamento de consumo desabilitado");
+        }
+    }
+
+    public void recordCalls(int count) {
+        pendingCalls.addAndGet(count);
+    }
+
+    @Scheduled(fixedDelayString = "${jsearch.quota.flush-interval:30000}")
+    @PreDestroy
+    public void flush() {
+        synchronized (flushLock) {
+            YearMonth period = YearMonth.now();
+            long delta = pendingCalls.getAndSet(0);
+
+            try {
+                if (!period.equals(currentPeriod)) {
+                    log.info("Novo período de cota da JSearch: {} ({} requisições usadas em {})",
+                            period, persistedCalls + delta, currentPeriod);
+                    currentPeriod = period;
+                    synchronized (burnLock) {
+                        usageSamples.clear();
+                    }
+                }
+                if (delta > 0) {
+                    increment(period, delta);
+                }
+                persistedCalls = loadPersistedCalls(period);
+                recordUsageSample(persistedCalls);
+            } catch (Exception e) {
+                pendingCalls.addAndGet(delta);
+                log.error("Erro ao gravar consumo da cota JSearch: {}", e.getMessage());
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return monthlyLimit > 0;
+    }
+
+    public boolean isExhausted() {
+        return isEnabled() && getRemainingCalls() <= 0;
+    }
+
+    public double getIntervalMultiplier() {
+        if (!isEnabled()) {
+            return 1;
+        }
+        return Math.min(maxIntervalMultiplier, Math.max(1, getPressure()));
+    }
+
+    public boolean shouldSkipSingleAlertSearches() {
+        return isEnabled() && getPressure() > maxIntervalMultiplier;
+    }
+
+    public Duration getSkipDelay() {
+        return Duration.ofMinutes(Math.round(defaultPollingIntervalMinutes * getIntervalMultiplier()));
+    }
+
+    public JSearchDTO.QuotaStatus getStatus() {
+        long used = getUsedCalls();
+        double hoursRemaining = getHoursRemaining();
+        double burnRate = getBurnRatePerHour();
+
+        JSearchDTO.QuotaStatus status = new JSearchDTO.QuotaStatus();
+        status.setEnabled(isEnabled());
+        status.setPeriod(currentPeriod.toString());
+        status.setMonthlyLimit(monthlyLimit);
+        status.setReservedCalls(getReservedCalls());
+        status.setUsedCalls(used);
+        status.setRemainingCalls(isEnabled() ? Math.max(0, getRemainingCalls()) : 0);
+        status.setHoursRemaining(hoursRemaining);
+        status.setBurnRatePerHour(burnRate);
+        status.setAllowedRatePerHour(getAllowedRatePerHour());
+        status.setProjectedMonthlyUsage(Math.round(used + burnRate * hoursRemaining));
+        status.setIntervalMultiplier(getIntervalMultiplier());
+        status.setSkippingSingleAlertSearches(shouldSkipSingleAlertSearches());
+        status.setExhausted(isExhausted());
+        return status;
+    }
+
+    private double getPressure() {
+        double allowedRate = getAllowedRatePerHour();
+        if (allowedRate <= 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return getBurnRatePerHour() / allowedRate;
+    }
+
+    private long getUsedCalls() {
+        return persistedCalls + pendingCalls.get();
+    }
+
+    private long getReservedCalls() {
+        return Math.round(monthlyLimit * reservePercent / 100);
+    }
+
+    private long getRemainingCalls() {
+        return monthlyLimit - getReservedCalls() - getUsedCalls();
+    }
+
+    private double getAllowedRatePerHour() {
+        return Math.max(0, getRemainingCalls()) / Math.max(1, getHoursRemaining());
+    }
+
+    private double getBurnRatePerHour() {
+        double hoursElapsed = Math.max(1, Duration.between(currentPeriod.atDay(1).atStartOfDay(),
+                LocalDateTime.now()).toMinutes() / 60.0);
+        double monthlyAverage = getUsedCalls() / hoursElapsed;
+        return Math.max(monthlyAverage, getRecentBurnRatePerHour());
+    }
+
+    private double getRecentBurnRatePerHour() {
+        synchronized (burnLock) {
+            if (usageSamples.size() < 2) {
+                return 0;
+            }
+
+            UsageSample oldest = usageSamples.peekFirst();
+            UsageSample newest = usageSamples.peekLast();
+            double hours = Duration.between(oldest.at(), newest.at()).toMinutes() / 60.0;
+            if (hours < 1) {
+                return 0;
+            }
+            return Math.max(0, newest.calls() - oldest.calls()) / hours;
+        }
+    }
+
+    private void recordUsageSample(long calls) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (burnLock) {
+            usageSamples.addLast(new UsageSample(now, calls));
+            while (usageSamples.size() > 2
+                    && usageSamples.peekFirst().at().isBefore(now.minusHours(BURN_WINDOW_HOURS))) {
+                usageSamples.removeFirst();
+            }
+        }
+    }
+
+    private double getHoursRemaining() {
+        LocalDateTime periodEnd = currentPeriod.plusMonths(1).atDay(1).atStartOfDay();
+        return Math.max(0, Duration.between(LocalDateTime.now(), periodEnd).toMinutes() / 60.0);
+    }
+
+    private void increment(YearMonth period, long delta) {
+        LocalDateTime now = LocalDateTime.now();
+        if (quotaUsageRepository.increment(period.toString(), delta, now) > 0) {
+            return;
+        }
+
+        try {
+            quotaUsageRepository.saveAndFlush(new ApiQuotaUsage(period.toString(), delta, now));
+        } catch (DataIntegrityViolationException e) {
+            quotaUsageRepository.increment(period.toString(), delta, now);
+        }
+    }
+
+    private long loadPersistedCalls(YearMonth period) {
+        return quotaUsageRepository.findById(period.toString())
+                .map(ApiQuotaUsage::getRequestCount)
+                .orElse(0L);
+    }
+}
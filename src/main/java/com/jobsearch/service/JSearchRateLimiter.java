@@ -0,0 +1,101 @@
+package com.jobsearch.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class JSearchRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Value("${jsearch.rate-limit.permits-per-second:2.0}")
+    private double configuredRate;
+
+    @Value("${jsearch.rate-limit.burst:5}")
+    private int burst;
+
+    @Value("${jsearch.rate-limit.min-permits-per-second:0.1}")
+    private double minRate;
+
+    @Value("${jsearch.rate-limit.recovery-factor:0.05}")
+    private double recoveryFactor;
+
+    private double currentRate;
+    private double availableTokens;
+    private long lastRefillNanos;
+    private long blockedUntilNanos;
+
+    @PostConstruct
+    void init() {
+        currentRate = configuredRate;
+        availableTokens = burst;
+        lastRefillNanos = System.nanoTime();
+        blockedUntilNanos = lastRefillNanos;
+        log.info("Rate limiter JSearch configurado: {} req/s, burst {}", configuredRate, burst);
+    }
+
+    public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando rate limit da API JSearch", e);
+        }
+    }
+
+    public synchronized long reserve() {
+        long now = System.nanoTime();
+        refill(now);
+
+        availableTokens -= 1;
+
+        long waitNanos = Math.max(0, blockedUntilNanos - now);
+        if (availableTokens < 0) {
+            waitNanos = Math.max(waitNanos, (long) (-availableTokens / currentRate * NANOS_PER_SECOND));
+        }
+        return waitNanos;
+    }
+
+    public synchronized void onSuccess() {
+        if (currentRate < configuredRate) {
+            currentRate = Math.min(configuredRate, currentRate + configuredRate * recoveryFactor);
+        }
+    }
+
+    public synchronized void onRateLimited(Duration retryAfter) {
+        long now = System.nanoTime();
+        refill(now);
+
+        currentRate = Math.max(minRate, currentRate / 2);
+        availableTokens = Math.min(availableTokens, 0);
+
+        long pauseNanos = retryAfter != null ? retryAfter.toNanos() : (long) (NANOS_PER_SECOND / currentRate);
+        blockedUntilNanos = Math.max(blockedUntilNanos, now + pauseNanos);
+
+        log.warn("Rate limit da API JSearch atingido. Nova taxa: {} req/s, pausa de {} ms",
+                String.format("%.2f", currentRate), TimeUnit.NANOSECONDS.toMillis(pauseNanos));
+    }
+
+    public synchronized double getCurrentRate() {
+        return currentRate;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefillNanos) {
+            double elapsedSeconds = (double) (now - lastRefillNanos) / NANOS_PER_SECOND;
+            availableTokens = Math.min(burst, availableTokens + elapsedSeconds * currentRate);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.jobsearch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobsearch.dto.JSearchDTO;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JSearchResponseCache {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${jsearch.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jsearch.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${jsearch.cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${jsearch.cache.max-bytes:52428800}")
+    private long maxBytes;
+
+    public record Key(JSearchQueryKey search, int page) {
+
+        public static Key of(String query, String location, String employmentType, Integer page) {
+            return new Key(JSearchQueryKey.of(query, location, employmentType), page != null ? page : 1);
+        }
+    }
+
+    private record Entry(byte[] content, long expiresAtNanos) {
+
+        long sizeBytes() {
+            return content.length;
+        }
+    }
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long totalBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    @PostConstruct
+    void init() {
+        if (enabled) {
+            log.info("Cache de respostas JSearch: TTL {}s, até {} entradas / {} bytes", ttlSeconds, maxEntries, maxBytes);
+        } else {
+            log.info("Cache de respostas JSearch desabilitado");
+        }
+    }
+
+    public Optional<JSearchDTO.JobSearchResponse> get(Key key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry == null) {
+                misses++;
+                return Optional.empty();
+            }
+
+            if (System.nanoTime() - entry.expiresAtNanos() >= 0) {
+                remove(key, entry);
+                expirations++;
+                misses++;
+                return Optional.empty();
+            }
+
+            hits++;
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(entry.content(), JSearchDTO.JobSearchResponse.class));
+        } catch (Exception e) {
+            log.warn("Erro ao ler resposta JSearch do cache para '{}': {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(Key key, JSearchDTO.JobSearchResponse response) {
+        if (!enabled || response == null) {
+            return;
+        }
+
+        byte[] content = serialize(response);
+        if (content == null) {
+            return;
+        }
+        if (content.length > maxBytes) {
+            log.debug("Resposta para '{}' maior que o limite do cache ({} bytes), ignorando", key, content.length);
+            return;
+        }
+
+        Entry entry = new Entry(content, System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds));
+
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                totalBytes -= previous.sizeBytes();
+            }
+            totalBytes += entry.sizeBytes();
+            evictIfNeeded();
+        }
+    }
+
+    public synchronized JSearchDTO.CacheStats getStats() {
+        JSearchDTO.CacheStats stats = new JSearchDTO.CacheStats();
+        stats.setEnabled(enabled);
+        stats.setEntries(entries.size());
+        stats.setMaxEntries(maxEntries);
+        stats.setSizeBytes(totalBytes);
+        stats.setMaxBytes(maxBytes);
+        stats.setTtlSeconds(ttlSeconds);
+        stats.setHits(hits);
+        stats.setMisses(misses);
+        stats.setEvictions(evictions);
+        stats.setExpirations(expirations);
+        stats.setHitRate(hits + misses > 0 ? (double) hits / (hits + misses) : 0);
+        return stats;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalBytes > maxBytes) && eldest.hasNext()) {
+            Map.Entry<Key, Entry> candidate = eldest.next();
+            totalBytes -= candidate.getValue().sizeBytes();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private void remove(Key key, Entry entry) {
+        entries.remove(key);
+        totalBytes -= entry.sizeBytes();
+    }
+
+    private byte[] serialize(JSearchDTO.JobSearchResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (Exception e) {
+            log.warn("Erro ao serializar resposta JSearch para o cache: {}", e.getMessage());
+            return null;
+        }
+    }
+}
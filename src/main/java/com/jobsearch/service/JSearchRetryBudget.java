@@ -0,0 +1,74 @@
+package com.jobsearch.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class JSearchRetryBudget {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Value("${jsearch.retry.budget-ratio:0.1}")
+    private double budgetRatio;
+
+    @Value("${jsearch.retry.budget-min-per-second:0.2}")
+    private double minRetriesPerSecond;
+
+    @Value("${jsearch.retry.budget-max-tokens:10}")
+    private double maxTokens;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long retriesGranted;
+    private long retriesDenied;
+
+    @PostConstruct
+    void init() {
+        tokens = maxTokens;
+        lastRefillNanos = System.nanoTime();
+        log.info("Orçamento de retentativas JSearch: {}% das requisições + {} por segundo",
+                budgetRatio * 100, minRetriesPerSecond);
+    }
+
+    public synchronized void onRequest() {
+        refill();
+        tokens = Math.min(maxTokens, tokens + budgetRatio);
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            retriesGranted++;
+            return true;
+        }
+        retriesDenied++;
+        return false;
+    }
+
+    public synchronized double getAvailableTokens() {
+        refill();
+        return tokens;
+    }
+
+    public synchronized long getRetriesGranted() {
+        return retriesGranted;
+    }
+
+    public synchronized long getRetriesDenied() {
+        return retriesDenied;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        if (now > lastRefillNanos) {
+            tokens = Math.min(maxTokens, tokens + (double) (now - lastRefillNanos) / NANOS_PER_SECOND * minRetriesPerSecond);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -2,17 +2,35 @@ package com.jobsearch.service;
 
 import com.jobsearch.dto.JSearchDTO;
 import com.jobsearch.exception.JSearchApiException;
+import com.jobsearch.exception.JSearchUnavailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -28,138 +46,317 @@ public class JSearchService {
     @Value("${jsearch.api.host}")
     private String apiHost;
 
-    private final RestTemplate restTemplate;
+    @Value("${jsearch.retry.max-attempts:3}")
+    private int maxRetryAttempts;
 
-    public JSearchDTO.JobSearchResponse searchJobs(String query, String location, Integer page) {
-        if (query == null || query.trim().isEmpty()) {
-            throw new IllegalArgumentException("Query de busca não pode ser vazia");
-        }
+    @Value("${jsearch.retry.initial-backoff-ms:500}")
+    private long initialBackoffMillis;
 
-        try {
-            log.info("Buscando vagas - Query: '{}', Location: '{}', Page: {}", query, location, page);
+    @Value("${jsearch.retry.max-backoff-ms:5000}")
+    private long maxBackoffMillis;
 
-            String finalQuery = buildSearchQuery(query.trim(), location);
-            Integer finalPage = page != null ? page : 1;
+    @Value("${jsearch.retry.jitter:0.5}")
+    private double retryJitter;
 
-            URI uri = UriComponentsBuilder
-                    .fromHttpUrl("https://" + apiHost + "/search")
-                    .queryParam("query", finalQuery)
-                    .queryParam("page", finalPage)
-                    .queryParam("num_pages", 1)
-                    .build()
-                    .toUri();
+    @Value("${jsearch.hedging.enabled:false}")
+    private boolean hedgingEnabled;
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-RapidAPI-Key", apiKey);
-            headers.set("X-RapidAPI-Host", apiHost);
-            headers.setContentType(MediaType.APPLICATION_JSON);
+    private final WebClient webClient;
+    private final JSearchRateLimiter rateLimiter;
+    private final JSearchResponseCache responseCache;
+    private final JSearchJobStreamDecoder jobStreamDecoder;
+    private final JSearchCircuitBreaker circuitBreaker;
+    private final JSearchBulkhead bulkhead;
+    private final JSearchRetryBudget retryBudget;
+    private final JSearchLatencyTracker latencyTracker;
+    private final JSearchQuotaService quotaService;
 
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+    private final Map<JSearchResponseCache.Key, Mono<JSearchDTO.JobSearchResponse>> inFlightRequests =
+            new ConcurrentHashMap<>();
+    private final AtomicLong coalescedRequests = new AtomicLong();
+    private final AtomicLong retriedRequests = new AtomicLong();
+    private final AtomicLong hedgedRequests = new AtomicLong();
 
-            log.debug("URL da requisição: {}", uri);
+    public JSearchDTO.JobSearchResponse searchJobs(String query, String location, Integer page) {
+        return searchJobsReactive(query, location, page).block();
+    }
 
-            ResponseEntity<JSearchDTO.JobSearchResponse> response = restTemplate.exchange(
-                    uri,
-                    HttpMethod.GET,
-                    entity,
-                    JSearchDTO.JobSearchResponse.class
-            );
+    public JSearchDTO.JobSearchResponse searchJobsWithFilters(String query, String location,
+                                                              String employmentType, Integer page) {
+        return searchJobsWithFiltersReactive(query, location, employmentType, page).block();
+    }
 
-            JSearchDTO.JobSearchResponse result = response.getBody();
+    public Mono<JSearchDTO.JobSearchResponse> searchJobsReactive(String query, String location, Integer page) {
+        return searchJobsWithFiltersReactive(query, location, null, page);
+    }
 
-            if (result == null) {
-                log.warn("Resposta da API JSearch é null para query: {}", finalQuery);
-                return createEmptyResponse();
-            }
+    public Mono<JSearchDTO.JobSearchResponse> searchJobsWithFiltersReactive(String query, String location,
+                                                                            String employmentType, Integer page) {
+        if (query == null || query.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Query de busca não pode ser vazia"));
+        }
 
-            log.info("API JSearch retornou {} vagas para query: '{}'",
-                    result.getData() != null ? result.getData().size() : 0, finalQuery);
+        JSearchResponseCache.Key cacheKey = JSearchResponseCache.Key.of(query, location, employmentType, page);
+        Optional<JSearchDTO.JobSearchResponse> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("Resposta em cache para busca '{}' (página {})", cacheKey.search(), cacheKey.page());
+            return Mono.just(cached.get());
+        }
 
-            return result;
+        Mono<JSearchDTO.JobSearchResponse> inFlight = inFlightRequests.get(cacheKey);
+        if (inFlight != null) {
+            coalescedRequests.incrementAndGet();
+            log.info("Aguardando requisição em andamento para busca '{}' (página {})",
+                    cacheKey.search(), cacheKey.page());
+            return inFlight;
+        }
 
-        } catch (HttpClientErrorException.Unauthorized e) {
-            log.error("Erro de autorização na API JSearch - verifique a chave da API");
-            throw new JSearchApiException("Erro de autorização na API JSearch", e);
-        } catch (HttpClientErrorException.TooManyRequests e) {
-            log.error("Rate limit excedido na API JSearch");
-            throw new JSearchApiException("Rate limit excedido na API JSearch", e);
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            log.error("Erro HTTP na API JSearch: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
-            throw new JSearchApiException("Erro HTTP na API JSearch: " + e.getStatusCode(), e);
-        } catch (Exception e) {
-            log.error("Erro inesperado ao buscar vagas no JSearch: ", e);
-            throw new JSearchApiException("Erro inesperado na busca de vagas", e);
+        Mono<JSearchDTO.JobSearchResponse> created = fetchFromApi(query, location, employmentType, page, cacheKey)
+                .doOnTerminate(() -> inFlightRequests.remove(cacheKey))
+                .cache();
+        Mono<JSearchDTO.JobSearchResponse> existing = inFlightRequests.putIfAbsent(cacheKey, created);
+        if (existing != null) {
+            coalescedRequests.incrementAndGet();
+            return existing;
         }
+        return created;
     }
 
-    public JSearchDTO.JobSearchResponse searchJobsWithFilters(String query, String location,
-                                                              String employmentType, Integer page) {
+    public JSearchDTO.CacheStats getCacheStats() {
+        JSearchDTO.CacheStats stats = responseCache.getStats();
+        stats.setInFlightRequests(inFlightRequests.size());
+        stats.setCoalescedRequests(coalescedRequests.get());
+        return stats;
+    }
+
+    public JSearchDTO.ResilienceStats getResilienceStats() {
+        JSearchDTO.ResilienceStats stats = new JSearchDTO.ResilienceStats();
+        stats.setCircuitState(circuitBreaker.getState().name());
+        stats.setFailureRate(circuitBreaker.getFailureRate());
+        stats.setBufferedCalls(circuitBreaker.getBufferedCalls());
+        stats.setFailedCalls(circuitBreaker.getFailedCalls());
+        stats.setCircuitRejectedCalls(circuitBreaker.getRejectedCalls());
+        stats.setOpenedAt(circuitBreaker.getOpenedAt());
+        stats.setRetryInSeconds(circuitBreaker.isOpen() ? circuitBreaker.getRetryDelay().toSeconds() : 0);
+        stats.setBulkheadActiveCalls(bulkhead.getActiveCalls());
+        stats.setBulkheadMaxConcurrentCalls(bulkhead.getMaxConcurrentCalls());
+        stats.setBulkheadRejectedCalls(bulkhead.getRejectedCalls());
+        stats.setCurrentRatePerSecond(rateLimiter.getCurrentRate());
+        stats.setRetriedRequests(retriedRequests.get());
+        stats.setRetriesDeniedByBudget(retryBudget.getRetriesDenied());
+        stats.setRetryBudgetTokens(retryBudget.getAvailableTokens());
+        stats.setHedgingEnabled(hedgingEnabled);
+        stats.setHedgedRequests(hedgedRequests.get());
+        stats.setLatencyP50Millis(latencyTracker.percentileMillis(0.50));
+        stats.setLatencyP95Millis(latencyTracker.percentileMillis(0.95));
+        return stats;
+    }
+
+    public JSearchDTO.QuotaStatus getQuotaStatus() {
+        return quotaService.getStatus();
+    }
+
+    public Flux<JSearchDTO.JobData> streamJobsWithFilters(String query, String location,
+                                                          String employmentType, Integer page) {
         if (query == null || query.trim().isEmpty()) {
-            throw new IllegalArgumentException("Query de busca não pode ser vazia");
+            return Flux.error(new IllegalArgumentException("Query de busca não pode ser vazia"));
         }
 
-        try {
-            log.info("Buscando vagas com filtros - Query: '{}', Location: '{}', Type: '{}', Page: {}",
-                    query, location, employmentType, page);
-
-            String finalQuery = buildSearchQuery(query.trim(), location);
-            String finalEmploymentType = employmentType != null ? employmentType.trim() : null;
-            Integer finalPage = page != null ? page : 1;
-
-            UriComponentsBuilder builder = UriComponentsBuilder
-                    .fromHttpUrl("https://" + apiHost + "/search")
-                    .queryParam("query", finalQuery)
-                    .queryParam("page", finalPage)
-                    .queryParam("num_pages", 1);
-
-            if (finalEmploymentType != null && !finalEmploymentType.isEmpty()) {
-                builder = builder.queryParam("employment_types", finalEmploymentType);
-                log.debug("Adicionado filtro de tipo de emprego: {}", finalEmploymentType);
-            }
+        JSearchResponseCache.Key cacheKey = JSearchResponseCache.Key.of(query, location, employmentType, page);
+        Optional<JSearchDTO.JobSearchResponse> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("Resposta em cache para busca '{}' (página {})", cacheKey.search(), cacheKey.page());
+            return cached.get().getData() != null ? Flux.fromIterable(cached.get().getData()) : Flux.empty();
+        }
 
-            URI uri = builder.build().toUri();
+        URI uri = buildSearchUri(query, location, employmentType, page);
+        Flux<DataBuffer> body = prepareRequest(uri)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+
+        AtomicInteger jobCount = new AtomicInteger();
+        return resilient(() -> jobStreamDecoder.decode(guarded(rateLimited(timed(body)))), cacheKey)
+                .distinct(JSearchDTO.JobData::getJobId)
+                .doOnNext(job -> jobCount.incrementAndGet())
+                .doOnComplete(() -> {
+                    rateLimiter.onSuccess();
+                    log.info("API JSearch retornou {} vagas (streaming) para busca: '{}'", jobCount.get(), cacheKey.search());
+                })
+                .onErrorMap(e -> !(e instanceof JSearchApiException), this::toApiException);
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-RapidAPI-Key", apiKey);
-            headers.set("X-RapidAPI-Host", apiHost);
-            headers.setContentType(MediaType.APPLICATION_JSON);
+    private Mono<JSearchDTO.JobSearchResponse> fetchFromApi(String query, String location, String employmentType,
+                                                            Integer page, JSearchResponseCache.Key cacheKey) {
+        URI uri = buildSearchUri(query, location, employmentType, page);
+
+        Mono<JSearchDTO.JobSearchResponse> request = prepareRequest(uri)
+                .retrieve()
+                .bodyToMono(JSearchDTO.JobSearchResponse.class);
+
+        return resilient(() -> guarded(rateLimited(timed(request))), cacheKey).singleOrEmpty()
+                .doOnNext(result -> {
+                    rateLimiter.onSuccess();
+                    log.info("API JSearch retornou {} vagas para query com filtros: '{}'",
+                            result.getData() != null ? result.getData().size() : 0, cacheKey.search());
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    rateLimiter.onSuccess();
+                    log.warn("Resposta da API JSearch é null para query com filtros: {}", cacheKey.search());
+                    return createEmptyResponse();
+                }))
+                .doOnNext(result -> responseCache.put(cacheKey, result))
+                .onErrorMap(e -> !(e instanceof JSearchApiException), this::toApiException);
+    }
 
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+    private URI buildSearchUri(String query, String location, String employmentType, Integer page) {
+        log.info("Buscando vagas com filtros - Query: '{}', Location: '{}', Type: '{}', Page: {}",
+                query, location, employmentType, page);
 
-            log.debug("URL da requisição com filtros: {}", uri);
+        String finalQuery = buildSearchQuery(query.trim(), location);
+        String finalEmploymentType = employmentType != null ? employmentType.trim() : null;
+        Integer finalPage = page != null ? page : 1;
 
-            ResponseEntity<JSearchDTO.JobSearchResponse> response = restTemplate.exchange(
-                    uri,
-                    HttpMethod.GET,
-                    entity,
-                    JSearchDTO.JobSearchResponse.class
-            );
+        UriComponentsBuilder builder = UriComponentsBuilder
+                .fromHttpUrl(apiUrl + "/search")
+                .queryParam("query", finalQuery)
+                .queryParam("page", finalPage)
+                .queryParam("num_pages", 1);
 
-            JSearchDTO.JobSearchResponse result = response.getBody();
+        if (finalEmploymentType != null && !finalEmploymentType.isEmpty()) {
+            builder = builder.queryParam("employment_types", finalEmploymentType);
+            log.debug("Adicionado filtro de tipo de emprego: {}", finalEmploymentType);
+        }
+
+        URI uri = builder.encode().build().toUri();
+        log.debug("URL da requisição com filtros: {}", uri);
+        return uri;
+    }
+
+    private WebClient.RequestHeadersSpec<?> prepareRequest(URI uri) {
+        return webClient.get()
+                .uri(uri)
+                .header("X-RapidAPI-Key", apiKey)
+                .header("X-RapidAPI-Host", apiHost)
+                .accept(MediaType.APPLICATION_JSON);
+    }
 
-            if (result == null) {
-                log.warn("Resposta da API JSearch é null para query com filtros: {}", finalQuery);
-                return createEmptyResponse();
+    private <T> Flux<T> guarded(Flux<T> request) {
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Flux.error(new JSearchUnavailableException("Circuito aberto para a API JSearch, nova tentativa em "
+                        + circuitBreaker.getRetryDelay().toSeconds() + "s"));
+            }
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.onCancelled();
+                return Flux.error(new JSearchUnavailableException("Limite de "
+                        + bulkhead.getMaxConcurrentCalls() + " chamadas simultâneas à API JSearch atingido"));
             }
 
-            log.info("API JSearch retornou {} vagas para query com filtros: '{}'",
-                    result.getData() != null ? result.getData().size() : 0, finalQuery);
+            return request
+                    .doOnComplete(circuitBreaker::onSuccess)
+                    .doOnError(e -> {
+                        if (isServiceFailure(e)) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onSuccess();
+                        }
+                    })
+                    .doOnCancel(circuitBreaker::onCancelled)
+                    .doFinally(signal -> bulkhead.release());
+        });
+    }
+
+    private <T> Flux<T> resilient(Supplier<Flux<T>> attempt, JSearchResponseCache.Key cacheKey) {
+        Flux<T> single = Flux.defer(attempt);
+        Flux<T> hedged = Flux.defer(() -> {
+            Optional<Duration> hedgeDelay = hedgingEnabled ? latencyTracker.getHedgeDelay() : Optional.empty();
+            if (hedgeDelay.isEmpty()) {
+                return single;
+            }
+
+            Flux<T> hedge = Mono.delay(hedgeDelay.get()).thenMany(Flux.defer(() -> {
+                if (circuitBreaker.isOpen() || !retryBudget.tryAcquire()) {
+                    return Flux.never();
+                }
+                hedgedRequests.incrementAndGet();
+                log.info("Busca '{}' (página {}) sem resposta após {} ms, enviando requisição de hedge",
+                        cacheKey.search(), cacheKey.page(), hedgeDelay.get().toMillis());
+                return single;
+            }));
+            return Flux.firstWithSignal(single, hedge);
+        });
+
+        Flux<T> retried = hedged.retryWhen(Retry.backoff(maxRetryAttempts, Duration.ofMillis(initialBackoffMillis))
+                .maxBackoff(Duration.ofMillis(maxBackoffMillis))
+                .jitter(retryJitter)
+                .filter(error -> isRetryable(error) && retryBudget.tryAcquire())
+                .doBeforeRetry(signal -> {
+                    retriedRequests.incrementAndGet();
+                    log.warn("Falha transitória na busca '{}' (página {}), tentativa {} de {}: {}",
+                            cacheKey.search(), cacheKey.page(), signal.totalRetries() + 1, maxRetryAttempts,
+                            signal.failure().getMessage());
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+
+        return Flux.defer(() -> {
+            retryBudget.onRequest();
+            return retried;
+        });
+    }
+
+    private <T> Flux<T> timed(Publisher<T> request) {
+        return Flux.defer(() -> {
+            quotaService.recordCalls(1);
+            long start = System.nanoTime();
+            return Flux.from(request).doOnComplete(() -> latencyTracker.record(System.nanoTime() - start));
+        });
+    }
+
+    private boolean isRetryable(Throwable error) {
+        if (error instanceof JSearchUnavailableException) {
+            return false;
+        }
+        if (error instanceof WebClientResponseException e) {
+            return e.getStatusCode().is5xxServerError();
+        }
+        return error instanceof WebClientRequestException
+                || error instanceof TimeoutException
+                || error.getCause() instanceof TimeoutException;
+    }
+
+    private boolean isServiceFailure(Throwable error) {
+        if (error instanceof WebClientResponseException e) {
+            return e.getStatusCode().is5xxServerError();
+        }
+        return true;
+    }
 
-            return result;
+    private <T> Flux<T> rateLimited(Publisher<T> request) {
+        return Flux.defer(() -> {
+            long waitNanos = rateLimiter.reserve();
+            return waitNanos > 0
+                    ? Mono.delay(Duration.ofNanos(waitNanos)).thenMany(request)
+                    : Flux.from(request);
+        });
+    }
 
-        } catch (HttpClientErrorException.Unauthorized e) {
+    private JSearchApiException toApiException(Throwable error) {
+        if (error instanceof WebClientResponseException.Unauthorized e) {
             log.error("Erro de autorização na API JSearch - verifique a chave da API");
-            throw new JSearchApiException("Erro de autorização na API JSearch", e);
-        } catch (HttpClientErrorException.TooManyRequests e) {
+            return new JSearchApiException("Erro de autorização na API JSearch", e);
+        }
+        if (error instanceof WebClientResponseException.TooManyRequests e) {
             log.error("Rate limit excedido na API JSearch");
-            throw new JSearchApiException("Rate limit excedido na API JSearch", e);
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
+            rateLimiter.onRateLimited(parseRetryAfter(e.getHeaders()));
+            return new JSearchApiException("Rate limit excedido na API JSearch", e, true);
+        }
+        if (error instanceof WebClientResponseException e) {
             log.error("Erro HTTP na API JSearch: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
-            throw new JSearchApiException("Erro HTTP na API JSearch: " + e.getStatusCode(), e);
-        } catch (Exception e) {
-            log.error("Erro inesperado ao buscar vagas com filtros no JSearch: ", e);
-            throw new JSearchApiException("Erro inesperado na busca de vagas", e);
+            return new JSearchApiException("Erro HTTP na API JSearch: " + e.getStatusCode(), e,
+                    e.getStatusCode().is5xxServerError());
         }
+        log.error("Erro inesperado ao buscar vagas com filtros no JSearch: ", error);
+        return new JSearchApiException("Erro inesperado na busca de vagas", error, isRetryable(error));
     }
 
     private String buildSearchQuery(String query, String location) {
@@ -177,6 +374,26 @@ public class JSearchService {
         return finalQuery;
     }
 
+    private Duration parseRetryAfter(HttpHeaders headers) {
+        String retryAfter = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException parseError) {
+                log.warn("Header Retry-After inválido: {}", retryAfter);
+                return null;
+            }
+        }
+    }
+
     private JSearchDTO.JobSearchResponse createEmptyResponse() {
         JSearchDTO.JobSearchResponse emptyResponse = new JSearchDTO.JobSearchResponse();
         emptyResponse.setStatus("success");
@@ -0,0 +1,4 @@
+package com.jobsearch.service;
+
+public record JobAlertChangedEvent(Long alertId) {
+}
@@ -10,10 +10,15 @@ import com.jobsearch.repository.AlertTagRepository;
 import com.jobsearch.repository.JobAlertRepository;
 import com.jobsearch.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -25,6 +30,11 @@ public class JobAlertService {
     private final JobAlertRepository jobAlertRepository;
     private final AlertTagRepository alertTagRepository;
     private final UserRepository userRepository;
+    private final JSearchQuotaService quotaService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${job.alert.default-polling-interval-minutes:60}")
+    private int defaultPollingIntervalMinutes;
 
     @Transactional
     public JobAlertDTO.JobAlertResponse createJobAlert(Long userId, JobAlertDTO.CreateJobAlertRequest request) {
@@ -38,6 +48,7 @@ public class JobAlertService {
         jobAlert.setLocationType(request.getLocationType());
         jobAlert.setExperienceLevel(request.getExperienceLevel());
         jobAlert.setMinimumMatchingTags(request.getMinimumMatchingTags());
+        jobAlert.setPollingIntervalMinutes(request.getPollingIntervalMinutes());
         jobAlert.setUser(user);
 
         JobAlert savedAlert = jobAlertRepository.save(jobAlert);
@@ -54,6 +65,7 @@ public class JobAlertService {
 
         alertTagRepository.saveAll(alertTags);
         savedAlert.setAlertTags(alertTags);
+        eventPublisher.publishEvent(new JobAlertChangedEvent(savedAlert.getId()));
 
         return mapToResponse(savedAlert);
     }
@@ -71,6 +83,7 @@ public class JobAlertService {
         return mapToResponse(alert);
     }
 
+    @Transactional(readOnly = true)
     public List<JobAlertDTO.JobAlertResponse> getAllActiveAlerts() {
         List<JobAlert> alerts = jobAlertRepository.findByIsActiveTrue();
         return alerts.stream()
@@ -78,6 +91,39 @@ public class JobAlertService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<JobAlertDTO.JobAlertResponse> getActiveAlertsByIds(Collection<Long> alertIds) {
+        if (alertIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<JobAlert> alerts = jobAlertRepository.findByIdInAndIsActiveTrue(alertIds);
+        return alerts.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<JobAlertDTO.JobAlertResponse> getDueAlerts(int limit) {
+        List<JobAlert> alerts = jobAlertRepository.findDueAlerts(LocalDateTime.now(), PageRequest.of(0, limit));
+        return alerts.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<JobAlertDTO.JobAlertResponse> getDueAlerts(int limit, int partitionCount, Collection<Integer> partitions) {
+        if (partitions.isEmpty()) {
+            return List.of();
+        }
+
+        List<JobAlert> alerts = jobAlertRepository.findDueAlertsInPartitions(
+                LocalDateTime.now(), partitionCount, partitions, PageRequest.of(0, limit));
+        return alerts.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public JobAlertDTO.JobAlertResponse updateJobAlert(Long alertId, JobAlertDTO.CreateJobAlertRequest request) {
         JobAlert alert = jobAlertRepository.findById(alertId)
@@ -89,6 +135,9 @@ public class JobAlertService {
         alert.setLocationType(request.getLocationType());
         alert.setExperienceLevel(request.getExperienceLevel());
         alert.setMinimumMatchingTags(request.getMinimumMatchingTags());
+        alert.setPollingIntervalMinutes(request.getPollingIntervalMinutes());
+        alert.setNextRunAt(LocalDateTime.now());
+        alert.setUpdatedAt(LocalDateTime.now());
 
         alertTagRepository.deleteByJobAlertId(alertId);
 
@@ -106,6 +155,7 @@ public class JobAlertService {
         alert.setAlertTags(newTags);
 
         JobAlert updatedAlert = jobAlertRepository.save(alert);
+        eventPublisher.publishEvent(new JobAlertChangedEvent(alertId));
         return mapToResponse(updatedAlert);
     }
 
@@ -116,17 +166,30 @@ public class JobAlertService {
         JobAlert alert = jobAlertRepository.findById(alertId)
                 .orElseThrow(() -> new RuntimeException("Alerta não encontrado"));
         alert.setIsActive(false);
+        alert.setUpdatedAt(LocalDateTime.now());
         jobAlertRepository.save(alert);
+        eventPublisher.publishEvent(new JobAlertChangedEvent(alertId));
     }
 
     @Transactional
     public void updateLastChecked(Long alertId) {
         JobAlert alert = jobAlertRepository.findById(alertId)
                 .orElseThrow(() -> new RuntimeException("Alerta não encontrado"));
-        alert.setLastChecked(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        alert.setLastChecked(now);
+        alert.setNextRunAt(now.plusMinutes(Math.round(getPollingIntervalMinutes(alert) * quotaService.getIntervalMultiplier())));
+        jobAlertRepository.save(alert);
+    }
+
+    @Transactional
+    public void deferAlert(Long alertId, Duration delay) {
+        JobAlert alert = jobAlertRepository.findById(alertId)
+                .orElseThrow(() -> new RuntimeException("Alerta não encontrado"));
+        alert.setNextRunAt(LocalDateTime.now().plus(delay));
         jobAlertRepository.save(alert);
     }
 
+    @Transactional(readOnly = true)
     public JobAlert getJobAlertEntityById(Long alertId) {
         JobAlert alert = jobAlertRepository.findById(alertId)
                 .orElseThrow(() -> new JobAlertNotFoundException("Alerta não encontrado com ID: " + alertId));
@@ -142,6 +205,11 @@ public class JobAlertService {
         return alert;
     }
 
+    private int getPollingIntervalMinutes(JobAlert alert) {
+        Integer interval = alert.getPollingIntervalMinutes();
+        return interval != null && interval > 0 ? interval : defaultPollingIntervalMinutes;
+    }
+
     private JobAlertDTO.JobAlertResponse mapToResponse(JobAlert alert) {
         JobAlertDTO.JobAlertResponse response = new JobAlertDTO.JobAlertResponse();
         response.setId(alert.getId());
@@ -153,7 +221,10 @@ public class JobAlertService {
         response.setMinimumMatchingTags(alert.getMinimumMatchingTags());
         response.setIsActive(alert.getIsActive());
         response.setCreatedAt(alert.getCreatedAt());
+        response.setUpdatedAt(alert.getUpdatedAt());
         response.setLastChecked(alert.getLastChecked());
+        response.setPollingIntervalMinutes(alert.getPollingIntervalMinutes());
+        response.setNextRunAt(alert.getNextRunAt());
 
         if (alert.getAlertTags() != null) {
             List<JobAlertDTO.TagResponse> tags = alert.getAlertTags().stream()
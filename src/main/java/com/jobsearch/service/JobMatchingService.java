@@ -1,12 +1,12 @@
 package com.jobsearch.service;
 
 import com.jobsearch.dto.JSearchDTO;
-import com.jobsearch.entity.AlertTag;
 import com.jobsearch.entity.JobAlert;
 import com.jobsearch.entity.JobVacancy;
 import com.jobsearch.repository.JobVacancyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,23 +25,35 @@ import java.util.stream.Collectors;
 public class JobMatchingService {
 
     private final JobVacancyRepository jobVacancyRepository;
+    private final ParallelJobMatcher parallelJobMatcher;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public List<JobVacancy> processAndMatchJobs(JSearchDTO.JobSearchResponse searchResponse, JobAlert jobAlert) {
-        List<JobVacancy> matchedJobs = new ArrayList<>();
+        if (jobAlert == null) {
+            log.error("JobAlert é null");
+            return new ArrayList<>();
+        }
+
+        List<JobVacancy> vacancies = saveJobVacancies(searchResponse);
+        return matchJobs(vacancies, jobAlert);
+    }
 
+    @Transactional
+    public List<JobVacancy> saveJobVacancies(JSearchDTO.JobSearchResponse searchResponse) {
         if (searchResponse == null || searchResponse.getData() == null || searchResponse.getData().isEmpty()) {
-            log.info("Nenhuma vaga encontrada na busca para o alerta: {}",
-                    jobAlert != null ? jobAlert.getTitle() : "null");
-            return matchedJobs;
+            log.info("Nenhuma vaga encontrada na busca");
+            return new ArrayList<>();
         }
 
-        if (jobAlert == null) {
-            log.error("JobAlert é null");
-            return matchedJobs;
-        }
+        return saveJobVacancies(searchResponse.getData());
+    }
 
-        for (JSearchDTO.JobData jobData : searchResponse.getData()) {
+    @Transactional
+    public List<JobVacancy> saveJobVacancies(List<JSearchDTO.JobData> jobs) {
+        List<JobVacancy> vacancies = new ArrayList<>();
+
+        for (JSearchDTO.JobData jobData : jobs) {
             try {
                 if (jobData == null || jobData.getJobId() == null || jobData.getJobId().trim().isEmpty()) {
                     log.warn("JobData ou JobId é null/vazio, pulando...");
@@ -52,10 +66,7 @@ public class JobMatchingService {
                     continue;
                 }
 
-                if (isJobMatching(vacancy, jobAlert)) {
-                    matchedJobs.add(vacancy);
-                    log.info("Vaga matched: {} - {}", vacancy.getTitle(), vacancy.getCompany());
-                }
+                vacancies.add(vacancy);
 
             } catch (Exception e) {
                 log.error("Erro ao processar vaga: {}",
@@ -63,8 +74,47 @@ public class JobMatchingService {
             }
         }
 
+        log.info("Salvas {} de {} vagas retornadas pela busca", vacancies.size(), jobs.size());
+        if (!vacancies.isEmpty()) {
+            eventPublisher.publishEvent(new JobVacanciesSavedEvent(List.copyOf(vacancies)));
+        }
+
+        return vacancies;
+    }
+
+    public List<JobVacancy> matchJobs(List<JobVacancy> vacancies, JobAlert jobAlert) {
+        if (jobAlert == null) {
+            return new ArrayList<>();
+        }
+        return matchJobs(vacancies, AlertMatcher.compile(jobAlert));
+    }
+
+    public List<JobVacancy> matchJobs(List<JobVacancy> vacancies, AlertMatcher alertMatcher) {
+        List<JobVacancy> matchedJobs = new ArrayList<>();
+
+        if (vacancies == null || vacancies.isEmpty() || alertMatcher == null) {
+            return matchedJobs;
+        }
+
+        for (JobVacancy vacancy : vacancies) {
+            if (isJobMatching(vacancy, alertMatcher)) {
+                matchedJobs.add(vacancy);
+                log.info("Vaga matched: {} - {}", vacancy.getTitle(), vacancy.getCompany());
+            }
+        }
+
         log.info("Processadas {} vagas, {} matches para alerta: {}",
-                searchResponse.getData().size(), matchedJobs.size(), jobAlert.getTitle());
+                vacancies.size(), matchedJobs.size(), alertMatcher.getTitle());
+
+        return matchedJobs;
+    }
+
+    public Map<Long, List<JobVacancy>> matchJobs(List<JobVacancy> vacancies, List<AlertMatcher> alertMatchers) {
+        Map<Long, List<JobVacancy>> matchedJobs = parallelJobMatcher.matchAll(vacancies, alertMatchers);
+
+        log.info("Processadas {} vagas para {} alertas, {} matches",
+                vacancies == null ? 0 : vacancies.size(), alertMatchers == null ? 0 : alertMatchers.size(),
+                matchedJobs.values().stream().mapToInt(List::size).sum());
 
         return matchedJobs;
     }
@@ -88,6 +138,8 @@ public class JobMatchingService {
             vacancy.setSalaryMin(jobData.getJobMinSalary());
             vacancy.setSalaryMax(jobData.getJobMaxSalary());
             vacancy.setEmploymentType(jobData.getJobEmploymentType());
+            vacancy.setSearchDocument(SearchTerms.toDocument(buildJobContent(vacancy)));
+            vacancy.setSearchTerms(null);
 
             if (jobData.getJobPostedAtDatetimeUtc() != null && !jobData.getJobPostedAtDatetimeUtc().trim().isEmpty()) {
                 try {
@@ -109,52 +161,31 @@ public class JobMatchingService {
         }
     }
 
-    private boolean isJobMatching(JobVacancy vacancy, JobAlert jobAlert) {
-        if (vacancy == null || jobAlert == null) {
-            log.warn("Vacancy ou JobAlert é null");
+    private boolean isJobMatching(JobVacancy vacancy, AlertMatcher alertMatcher) {
+        if (vacancy == null) {
+            log.warn("Vacancy é null");
             return false;
         }
 
-        Set<AlertTag> alertTags = jobAlert.getAlertTags();
-        if (alertTags == null || alertTags.isEmpty()) {
-            log.debug("JobAlert {} não possui tags para matching", jobAlert.getId());
+        if (!alertMatcher.hasTags()) {
+            log.debug("JobAlert {} não possui tags para matching", alertMatcher.getAlertId());
             return false;
         }
 
-        String jobContent = buildJobContent(vacancy);
-        if (jobContent == null || jobContent.trim().isEmpty()) {
+        Set<String> vacancyTerms = searchTermsOf(vacancy);
+        if (vacancyTerms.isEmpty()) {
             log.warn("Conteúdo da vaga está vazio para ID: {}", vacancy.getId());
             return false;
         }
 
-        jobContent = jobContent.toLowerCase();
-
-        List<AlertTag> requiredTags = alertTags.stream()
-                .filter(tag -> tag != null && tag.getIsRequired() != null && tag.getIsRequired())
-                .collect(Collectors.toList());
-
-        for (AlertTag requiredTag : requiredTags) {
-            if (requiredTag.getTag() == null || requiredTag.getTag().trim().isEmpty()) {
-                log.warn("Tag obrigatória é null ou vazia");
-                continue;
-            }
-
-            if (!jobContent.contains(requiredTag.getTag().toLowerCase())) {
-                log.debug("Vaga {} não possui tag obrigatória: {}", vacancy.getTitle(), requiredTag.getTag());
-                return false;
-            }
+        String missingRequiredTag = alertMatcher.findMissingRequiredTag(vacancyTerms);
+        if (missingRequiredTag != null) {
+            log.debug("Vaga {} não possui tag obrigatória: {}", vacancy.getTitle(), missingRequiredTag);
+            return false;
         }
 
-        String finalJobContent = jobContent;
-        long matchingTagsCount = alertTags.stream()
-                .filter(tag -> tag != null && tag.getTag() != null && !tag.getTag().trim().isEmpty())
-                .filter(tag -> finalJobContent.contains(tag.getTag().toLowerCase()))
-                .count();
-
-        Integer minimumTags = jobAlert.getMinimumMatchingTags();
-        if (minimumTags == null || minimumTags <= 0) {
-            minimumTags = 1;
-        }
+        int matchingTagsCount = alertMatcher.countMatchingTags(vacancyTerms);
+        int minimumTags = alertMatcher.getMinimumTags();
 
         boolean hasMinimumTags = matchingTagsCount >= minimumTags;
 
@@ -169,7 +200,25 @@ public class JobMatchingService {
         return hasMinimumTags;
     }
 
-    private String buildJobContent(JobVacancy vacancy) {
+    static Set<String> searchTermsOf(JobVacancy vacancy) {
+        Set<String> terms = vacancy.getSearchTerms();
+        if (terms == null) {
+            terms = SearchTerms.indexDocument(searchDocumentOf(vacancy));
+            vacancy.setSearchTerms(terms);
+        }
+        return terms;
+    }
+
+    static String searchDocumentOf(JobVacancy vacancy) {
+        String document = vacancy.getSearchDocument();
+        if (document == null) {
+            document = SearchTerms.toDocument(buildJobContent(vacancy));
+            vacancy.setSearchDocument(document);
+        }
+        return document;
+    }
+
+    static String buildJobContent(JobVacancy vacancy) {
         if (vacancy == null) {
             return "";
         }
@@ -214,6 +263,15 @@ public class JobMatchingService {
         return location.length() > 0 ? location.toString() : "Localização não informada";
     }
 
+    public List<JobVacancy> getJobVacanciesByIds(List<Long> vacancyIds) {
+        Map<Long, JobVacancy> vacanciesById = jobVacancyRepository.findAllById(vacancyIds).stream()
+                .collect(Collectors.toMap(JobVacancy::getId, vacancy -> vacancy));
+        return vacancyIds.stream()
+                .map(vacanciesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     public List<JobVacancy> getRecentJobVacancies(int hours) {
         try {
             LocalDateTime since = LocalDateTime.now().minusHours(hours);
@@ -0,0 +1,105 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JSearchDTO;
+import com.jobsearch.repository.JobVacancyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobSearchCrawler {
+
+    private final JSearchService jSearchService;
+    private final JobVacancyRepository jobVacancyRepository;
+
+    @Value("${job.crawl.max-pages:5}")
+    private int maxPages;
+
+    @Value("${job.crawl.pages-per-wave:2}")
+    private int pagesPerWave;
+
+    public record CrawlResult(List<JSearchDTO.JobData> jobs, int pagesFetched, String stopReason) {
+    }
+
+    private static class CrawlState {
+        private final List<JSearchDTO.JobData> jobs = new ArrayList<>();
+        private int pagesFetched;
+        private String stopReason;
+    }
+
+    public Mono<CrawlResult> crawl(JSearchQueryKey key) {
+        return crawlWave(key, 1, new CrawlState())
+                .publishOn(Schedulers.boundedElastic())
+                .map(state -> {
+                    log.info("Busca '{}': {} páginas, {} vagas ({})",
+                            key, state.pagesFetched, state.jobs.size(), state.stopReason);
+                    return new CrawlResult(state.jobs, state.pagesFetched, state.stopReason);
+                });
+    }
+
+    private Mono<CrawlState> crawlWave(JSearchQueryKey key, int firstPage, CrawlState state) {
+        int lastPage = Math.min(firstPage + Math.max(1, pagesPerWave) - 1, maxPages);
+
+        return Flux.range(firstPage, lastPage - firstPage + 1)
+                .flatMapSequential(page -> fetchPage(key, page), pagesPerWave)
+                .collectList()
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(pages -> {
+                    for (List<JSearchDTO.JobData> page : pages) {
+                        state.pagesFetched++;
+                        state.jobs.addAll(page);
+
+                        if (page.isEmpty()) {
+                            state.stopReason = "fim dos resultados na página " + state.pagesFetched;
+                        } else if (state.stopReason == null && isAlreadySeen(page)) {
+                            state.stopReason = "página " + state.pagesFetched + " sem vagas novas";
+                        }
+                    }
+
+                    if (state.stopReason != null) {
+                        return Mono.just(state);
+                    }
+                    if (lastPage >= maxPages) {
+                        state.stopReason = "limite de " + maxPages + " páginas";
+                        return Mono.just(state);
+                    }
+                    return crawlWave(key, lastPage + 1, state);
+                });
+    }
+
+    private Mono<List<JSearchDTO.JobData>> fetchPage(JSearchQueryKey key, int page) {
+        Mono<List<JSearchDTO.JobData>> request = jSearchService
+                .streamJobsWithFilters(key.query(), key.location(), key.employmentType(), page)
+                .collectList();
+
+        if (page == 1) {
+            return request;
+        }
+
+        return request.onErrorResume(e -> {
+            log.warn("Erro ao buscar página {} de '{}', encerrando paginação: {}", page, key, e.getMessage());
+            return Mono.just(List.of());
+        });
+    }
+
+    private boolean isAlreadySeen(List<JSearchDTO.JobData> page) {
+        Set<String> jobIds = page.stream()
+                .map(JSearchDTO.JobData::getJobId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return new HashSet<>(jobVacancyRepository.findExistingExternalIds(jobIds)).containsAll(jobIds);
+    }
+}
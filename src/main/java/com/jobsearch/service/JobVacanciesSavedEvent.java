@@ -0,0 +1,8 @@
+package com.jobsearch.service;
+
+import com.jobsearch.entity.JobVacancy;
+
+import java.util.List;
+
+public record JobVacanciesSavedEvent(List<JobVacancy> vacancies) {
+}
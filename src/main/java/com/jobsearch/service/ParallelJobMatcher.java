@@ -0,0 +1,258 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.SchedulerDTO;
+import com.jobsearch.entity.JobVacancy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ParallelJobMatcher {
+
+    private final RelevanceScorer relevanceScorer;
+
+    @Value("${job.matching.parallelism:0}")
+    private int parallelism;
+
+    @Value("${job.matching.parallel-threshold:10000}")
+    private long parallelThreshold;
+
+    @Value("${job.matching.chunk-size:2000}")
+    private long chunkSize;
+
+    @Value("${job.alert.max-matches-per-alert:200}")
+    private int maxMatchesPerAlert;
+
+    private ForkJoinPool pool;
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong parallelBatches = new AtomicLong();
+    private final AtomicLong evaluations = new AtomicLong();
+    private final AtomicLong matches = new AtomicLong();
+    private final AtomicLong matchingNanos = new AtomicLong();
+    private volatile SchedulerDTO.MatchingBatchStats lastBatch;
+
+    @PostConstruct
+    void start() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads);
+        log.info("Matching paralelo configurado com {} threads (limiar de {} comparações)", threads, parallelThreshold);
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    public Map<Long, List<JobVacancy>> matchAll(List<JobVacancy> vacancies, List<AlertMatcher> alertMatchers) {
+        Map<Long, List<JobVacancy>> result = new LinkedHashMap<>();
+        if (vacancies == null || vacancies.isEmpty() || alertMatchers == null || alertMatchers.isEmpty()) {
+            return result;
+        }
+
+        long start = System.nanoTime();
+        List<Set<String>> terms = new ArrayList<>(vacancies.size());
+        for (JobVacancy vacancy : vacancies) {
+            terms.add(JobMatchingService.searchTermsOf(vacancy));
+        }
+
+        List<RelevanceScorer.Ranking> rankings = new ArrayList<>(alertMatchers.size());
+        for (AlertMatcher alertMatcher : alertMatchers) {
+            rankings.add(maxMatchesPerAlert > 0 && alertMatcher.hasTags()
+                    ? relevanceScorer.rankingFor(alertMatcher) : null);
+        }
+
+        MatchBatch batch = new MatchBatch(vacancies, terms, alertMatchers, rankings, maxMatchesPerAlert);
+        long cells = (long) vacancies.size() * alertMatchers.size();
+        boolean parallel = cells >= parallelThreshold && pool.getParallelism() > 1;
+        if (parallel) {
+            pool.invoke(new AlertRange(batch, 0, alertMatchers.size()));
+        } else {
+            for (int i = 0; i < alertMatchers.size(); i++) {
+                batch.results.set(i, matchRange(batch, i, 0, vacancies.size()));
+            }
+        }
+
+        int matched = 0;
+        for (int i = 0; i < alertMatchers.size(); i++) {
+            List<JobVacancy> alertMatches = batch.results.get(i);
+            matched += alertMatches.size();
+            result.put(alertMatchers.get(i).getAlertId(), alertMatches);
+        }
+
+        recordBatch(vacancies.size(), alertMatchers.size(), cells, matched, System.nanoTime() - start, parallel);
+        return result;
+    }
+
+    public SchedulerDTO.MatchingStats getStats() {
+        SchedulerDTO.MatchingStats stats = new SchedulerDTO.MatchingStats();
+        stats.setParallelism(pool.getParallelism());
+        stats.setParallelThreshold(parallelThreshold);
+        stats.setBatches(batches.get());
+        stats.setParallelBatches(parallelBatches.get());
+        stats.setEvaluations(evaluations.get());
+        stats.setMatches(matches.get());
+
+        double seconds = matchingNanos.get() / 1_000_000_000.0;
+        stats.setMatchingMillis(matchingNanos.get() / 1_000_000.0);
+        stats.setEvaluationsPerSecond(seconds > 0 ? evaluations.get() / seconds : 0);
+        stats.setMatchesPerSecond(seconds > 0 ? matches.get() / seconds : 0);
+        stats.setLastBatch(lastBatch);
+        return stats;
+    }
+
+    private void recordBatch(int vacancies, int alerts, long cells, int matched, long nanos, boolean parallel) {
+        batches.incrementAndGet();
+        if (parallel) {
+            parallelBatches.incrementAndGet();
+        }
+        evaluations.addAndGet(cells);
+        matches.addAndGet(matched);
+        matchingNanos.addAndGet(nanos);
+
+        double seconds = nanos / 1_000_000_000.0;
+        SchedulerDTO.MatchingBatchStats batch = new SchedulerDTO.MatchingBatchStats();
+        batch.setVacancies(vacancies);
+        batch.setAlerts(alerts);
+        batch.setEvaluations(cells);
+        batch.setMatches(matched);
+        batch.setParallel(parallel);
+        batch.setTookMillis(nanos / 1_000_000.0);
+        batch.setEvaluationsPerSecond(seconds > 0 ? cells / seconds : 0);
+        batch.setMatchesPerSecond(seconds > 0 ? matched / seconds : 0);
+        lastBatch = batch;
+
+        log.debug("Matching de {} vagas x {} alertas ({}): {} matches em {} ms, {} comparações/s",
+                vacancies, alerts, parallel ? "paralelo" : "sequencial", matched,
+                String.format("%.1f", batch.getTookMillis()), String.format("%.0f", batch.getEvaluationsPerSecond()));
+    }
+
+    private static final class MatchBatch {
+        private final List<JobVacancy> vacancies;
+        private final List<Set<String>> terms;
+        private final List<AlertMatcher> alertMatchers;
+        private final List<RelevanceScorer.Ranking> rankings;
+        private final int maxMatches;
+        private final List<List<JobVacancy>> results;
+
+        MatchBatch(List<JobVacancy> vacancies, List<Set<String>> terms, List<AlertMatcher> alertMatchers,
+                   List<RelevanceScorer.Ranking> rankings, int maxMatches) {
+            this.vacancies = vacancies;
+            this.terms = terms;
+            this.alertMatchers = alertMatchers;
+            this.rankings = rankings;
+            this.maxMatches = maxMatches;
+            this.results = new ArrayList<>(Collections.nCopies(alertMatchers.size(), null));
+        }
+    }
+
+    private final class AlertRange extends RecursiveAction {
+        private final MatchBatch batch;
+        private final int from;
+        private final int to;
+
+        AlertRange(MatchBatch batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int vacancies = batch.vacancies.size();
+            if (to - from > 1 && (long) (to - from) * vacancies > chunkSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new AlertRange(batch, from, middle), new AlertRange(batch, middle, to));
+                return;
+            }
+
+            if (vacancies > chunkSize) {
+                List<VacancyRange> ranges = new ArrayList<>(to - from);
+                for (int alert = from; alert < to; alert++) {
+                    ranges.add(new VacancyRange(batch, alert, 0, vacancies));
+                }
+                invokeAll(ranges);
+                for (int i = 0; i < ranges.size(); i++) {
+                    batch.results.set(from + i, ranges.get(i).join());
+                }
+                return;
+            }
+
+            for (int alert = from; alert < to; alert++) {
+                batch.results.set(alert, matchRange(batch, alert, 0, vacancies));
+            }
+        }
+    }
+
+    private final class VacancyRange extends RecursiveTask<List<JobVacancy>> {
+        private final MatchBatch batch;
+        private final int alert;
+        private final int from;
+        private final int to;
+
+        VacancyRange(MatchBatch batch, int alert, int from, int to) {
+            this.batch = batch;
+            this.alert = alert;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<JobVacancy> compute() {
+            if (to - from <= chunkSize) {
+                return matchRange(batch, alert, from, to);
+            }
+
+            int middle = (from + to) >>> 1;
+            VacancyRange right = new VacancyRange(batch, alert, middle, to);
+            right.fork();
+            List<JobVacancy> left = new VacancyRange(batch, alert, from, middle).compute();
+            left.addAll(right.join());
+
+            RelevanceScorer.Ranking ranking = batch.rankings.get(alert);
+            if (ranking == null || left.size() <= batch.maxMatches) {
+                return left;
+            }
+            RelevanceScorer.TopK top = ranking.topK(batch.maxMatches);
+            left.forEach(top::offer);
+            return top.toList();
+        }
+    }
+
+    private static List<JobVacancy> matchRange(MatchBatch batch, int alert, int from, int to) {
+        List<JobVacancy> matched = new ArrayList<>();
+        AlertMatcher alertMatcher = batch.alertMatchers.get(alert);
+        if (!alertMatcher.hasTags()) {
+            return matched;
+        }
+
+        RelevanceScorer.Ranking ranking = batch.rankings.get(alert);
+        RelevanceScorer.TopK top = ranking != null ? ranking.topK(batch.maxMatches) : null;
+        for (int i = from; i < to; i++) {
+            if (alertMatcher.matches(batch.terms.get(i))) {
+                if (top != null) {
+                    top.offer(batch.vacancies.get(i));
+                } else {
+                    matched.add(batch.vacancies.get(i));
+                }
+            }
+        }
+        return top != null ? top.toList() : matched;
+    }
+}
@@ -0,0 +1,211 @@
+package com.jobsearch.service;
+
+import com.jobsearch.entity.SchedulerPartitionLease;
+import com.jobsearch.repository.SchedulerNodeRepository;
+import com.jobsearch.repository.SchedulerPartitionLeaseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionLeaseService {
+
+    private final SchedulerNodeRepository schedulerNodeRepository;
+    private final SchedulerPartitionLeaseRepository leaseRepository;
+
+    @Value("${job.cluster.enabled:false}")
+    private boolean clusterEnabled;
+
+    @Value("${job.cluster.partitions:32}")
+    private int partitionCount;
+
+    @Value("${job.cluster.lease-duration-seconds:60}")
+    private long leaseDurationSeconds;
+
+    @Value("${job.cluster.node-id:}")
+    private String configuredNodeId;
+
+    private String nodeId;
+
+    private volatile Set<Integer> ownedPartitions = Collections.emptySet();
+    private volatile LocalDateTime leaseValidUntil = LocalDateTime.MIN;
+
+    @PostConstruct
+    void init() {
+        nodeId = configuredNodeId != null && !configuredNodeId.isBlank() ? configuredNodeId.trim() : generateNodeId();
+
+        if (!clusterEnabled) {
+            ownedPartitions = IntStream.range(0, partitionCount).boxed().collect(Collectors.toUnmodifiableSet());
+            leaseValidUntil = LocalDateTime.MAX;
+            log.info("Modo cluster desabilitado: nó {} processa todas as partições", nodeId);
+        } else {
+            log.info("Modo cluster habilitado: nó {} com {} partições e lease de {}s",
+                    nodeId, partitionCount, leaseDurationSeconds);
+        }
+    }
+
+    public void heartbeat(boolean runActive) {
+        if (!clusterEnabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(leaseDurationSeconds);
+
+        try {
+            registerHeartbeat();
+            schedulerNodeRepository.deleteStaleNodes(leaseDurationSeconds * 10);
+
+            long liveNodes = Math.max(1, schedulerNodeRepository.countAlive(leaseDurationSeconds));
+            int fairShare = (int) Math.ceil((double) partitionCount / liveNodes);
+
+            Map<Integer, SchedulerPartitionLease> leases = loadLeases();
+            Set<Integer> owned = new TreeSet<>();
+
+            for (SchedulerPartitionLease lease : leases.values()) {
+                if (nodeId.equals(lease.getOwnerNodeId()) && (runActive || owned.size() < fairShare)
+                        && leaseRepository.tryAcquire(lease.getPartitionId(), nodeId, leaseDurationSeconds) == 1) {
+                    owned.add(lease.getPartitionId());
+                }
+            }
+
+            for (SchedulerPartitionLease lease : leases.values()) {
+                if (owned.size() >= fairShare) {
+                    break;
+                }
+                if (!owned.contains(lease.getPartitionId())
+                        && leaseRepository.tryAcquire(lease.getPartitionId(), nodeId, leaseDurationSeconds) == 1) {
+                    owned.add(lease.getPartitionId());
+                }
+            }
+
+            for (SchedulerPartitionLease lease : leases.values()) {
+                if (nodeId.equals(lease.getOwnerNodeId()) && !owned.contains(lease.getPartitionId())) {
+                    leaseRepository.release(lease.getPartitionId(), nodeId);
+                    log.info("Partição {} liberada para rebalanceamento", lease.getPartitionId());
+                }
+            }
+
+            if (!owned.equals(ownedPartitions)) {
+                log.info("Nó {} agora possui {} partições ({} nós ativos): {}",
+                        nodeId, owned.size(), liveNodes, owned);
+            }
+
+            ownedPartitions = Collections.unmodifiableSet(owned);
+            leaseValidUntil = expiresAt;
+
+        } catch (Exception e) {
+            log.error("Erro ao renovar leases de partição do nó {}: {}", nodeId, e.getMessage(), e);
+        }
+    }
+
+    public Set<Integer> getOwnedPartitions() {
+        if (LocalDateTime.now().isAfter(leaseValidUntil)) {
+            return Collections.emptySet();
+        }
+        return ownedPartitions;
+    }
+
+    public boolean ownsAlert(Long alertId) {
+        return alertId != null && getOwnedPartitions().contains(partitionOf(alertId));
+    }
+
+    public int partitionOf(Long alertId) {
+        return (int) Math.floorMod(alertId, (long) partitionCount);
+    }
+
+    public boolean isClusterEnabled() {
+        return clusterEnabled;
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public long getLiveNodeCount() {
+        if (!clusterEnabled) {
+            return 1;
+        }
+        return schedulerNodeRepository.countAlive(leaseDurationSeconds);
+    }
+
+    private void registerHeartbeat() {
+        if (schedulerNodeRepository.touch(nodeId) > 0) {
+            return;
+        }
+
+        try {
+            schedulerNodeRepository.register(nodeId);
+        } catch (DataIntegrityViolationException e) {
+            schedulerNodeRepository.touch(nodeId);
+        }
+    }
+
+    @PreDestroy
+    void releaseAll() {
+        if (!clusterEnabled) {
+            return;
+        }
+
+        try {
+            ownedPartitions.forEach(partitionId -> leaseRepository.release(partitionId, nodeId));
+            schedulerNodeRepository.deleteById(nodeId);
+            log.info("Nó {} liberou {} partições no desligamento", nodeId, ownedPartitions.size());
+        } catch (Exception e) {
+            log.warn("Erro ao liberar partições do nó {}: {}", nodeId, e.getMessage());
+        }
+        ownedPartitions = Collections.emptySet();
+    }
+
+    private Map<Integer, SchedulerPartitionLease> loadLeases() {
+        Map<Integer, SchedulerPartitionLease> leases = new LinkedHashMap<>();
+        leaseRepository.findAll().forEach(lease -> leases.put(lease.getPartitionId(), lease));
+
+        for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+            if (!leases.containsKey(partitionId)) {
+                try {
+                    leaseRepository.insertPartition(partitionId);
+                } catch (DataIntegrityViolationException e) {
+                    log.debug("Partição {} criada por outro nó", partitionId);
+                }
+                leases.put(partitionId, new SchedulerPartitionLease(partitionId, null, null));
+            }
+        }
+
+        return leases.entrySet().stream()
+                .filter(entry -> entry.getKey() < partitionCount)
+                .sorted(Map.Entry.comparingByKey())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    private String generateNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,168 @@
+package com.jobsearch.service;
+
+import com.jobsearch.entity.JobVacancy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class RelevanceScorer {
+
+    private final VacancySearchIndex vacancySearchIndex;
+
+    @Value("${job.alert.max-jobs-per-email:20}")
+    private int maxJobsPerEmail;
+
+    @Value("${job.relevance.k1:1.2}")
+    private double k1;
+
+    @Value("${job.relevance.b:0.75}")
+    private double b;
+
+    @Value("${job.relevance.recency-half-life-hours:72}")
+    private double recencyHalfLifeHours;
+
+    @Value("${job.relevance.recency-weight:1.0}")
+    private double recencyWeight;
+
+    private record ScoredVacancy(JobVacancy vacancy, double score, LocalDateTime postedAt) {
+    }
+
+    private static final Comparator<ScoredVacancy> RANKING = Comparator.comparingDouble(ScoredVacancy::score)
+            .thenComparing(ScoredVacancy::postedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    public List<JobVacancy> selectTop(AlertMatcher alertMatcher, Collection<JobVacancy> vacancies) {
+        return selectTop(alertMatcher, vacancies, maxJobsPerEmail);
+    }
+
+    public List<JobVacancy> selectTop(AlertMatcher alertMatcher, Collection<JobVacancy> vacancies, int limit) {
+        if (vacancies == null || vacancies.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        TopK top = rankingFor(alertMatcher).topK(Math.min(limit, vacancies.size()));
+        vacancies.forEach(top::offer);
+        return top.toList();
+    }
+
+    public Ranking rankingFor(AlertMatcher alertMatcher) {
+        List<AlertMatcher.TagWords> tags = alertMatcher.getTagWords();
+        return new Ranking(tags, inverseDocumentFrequencies(tags), vacancySearchIndex.averageDocumentLength(),
+                LocalDateTime.now());
+    }
+
+    public final class Ranking {
+        private final List<AlertMatcher.TagWords> tags;
+        private final double[] idf;
+        private final double averageLength;
+        private final LocalDateTime now;
+
+        private Ranking(List<AlertMatcher.TagWords> tags, double[] idf, double averageLength, LocalDateTime now) {
+            this.tags = tags;
+            this.idf = idf;
+            this.averageLength = averageLength;
+            this.now = now;
+        }
+
+        public TopK topK(int limit) {
+            return new TopK(this, limit);
+        }
+
+        private ScoredVacancy score(JobVacancy vacancy) {
+            return new ScoredVacancy(vacancy, RelevanceScorer.this.score(vacancy, tags, idf, averageLength, now),
+                    postedAt(vacancy));
+        }
+    }
+
+    public static final class TopK {
+        private final Ranking ranking;
+        private final int limit;
+        private final PriorityQueue<ScoredVacancy> heap;
+
+        private TopK(Ranking ranking, int limit) {
+            this.ranking = ranking;
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(Math.max(1, Math.min(limit, 1024)), RANKING);
+        }
+
+        public void offer(JobVacancy vacancy) {
+            if (limit > 0) {
+                offer(ranking.score(vacancy));
+            }
+        }
+
+        public List<JobVacancy> toList() {
+            return heap.stream()
+                    .sorted(RANKING.reversed())
+                    .map(ScoredVacancy::vacancy)
+                    .collect(Collectors.toList());
+        }
+
+        private void offer(ScoredVacancy scored) {
+            if (heap.size() < limit) {
+                heap.add(scored);
+            } else if (RANKING.compare(scored, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(scored);
+            }
+        }
+    }
+
+    public int getMaxJobsPerEmail() {
+        return maxJobsPerEmail;
+    }
+
+    private double[] inverseDocumentFrequencies(List<AlertMatcher.TagWords> tags) {
+        int documents = vacancySearchIndex.size();
+        double[] idf = new double[tags.size()];
+        for (int i = 0; i < tags.size(); i++) {
+            if (documents == 0) {
+                idf[i] = 1.0;
+                continue;
+            }
+            int frequency = vacancySearchIndex.documentFrequency(tags.get(i).words());
+            idf[i] = Math.log(1 + (documents - frequency + 0.5) / (frequency + 0.5));
+        }
+        return idf;
+    }
+
+    private double score(JobVacancy vacancy, List<AlertMatcher.TagWords> tags, double[] idf,
+                         double averageLength, LocalDateTime now) {
+        String document = JobMatchingService.searchDocumentOf(vacancy);
+        String[] tokens = document.isEmpty() ? new String[0] : document.split(" ");
+        double length = tokens.length;
+        double lengthNorm = k1 * (1 - b + b * length / (averageLength > 0 ? averageLength : Math.max(length, 1)));
+
+        double relevance = 0;
+        for (int i = 0; i < tags.size(); i++) {
+            int frequency = SearchTerms.countPhrase(tokens, tags.get(i).words());
+            if (frequency > 0) {
+                relevance += idf[i] * frequency * (k1 + 1) / (frequency + lengthNorm);
+            }
+        }
+
+        return relevance * (1 + recencyWeight * recencyDecay(postedAt(vacancy), now));
+    }
+
+    private double recencyDecay(LocalDateTime postedAt, LocalDateTime now) {
+        if (postedAt == null || recencyHalfLifeHours <= 0) {
+            return 0;
+        }
+        double ageHours = Math.max(0, Duration.between(postedAt, now).toMinutes() / 60.0);
+        return Math.pow(0.5, ageHours / recencyHalfLifeHours);
+    }
+
+    private LocalDateTime postedAt(JobVacancy vacancy) {
+        return vacancy.getPublishedAt() != null ? vacancy.getPublishedAt() : vacancy.getCreatedAt();
+    }
+}
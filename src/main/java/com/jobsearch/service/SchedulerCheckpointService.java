@@ -0,0 +1,168 @@
+package com.jobsearch.service;
+
+import com.jobsearch.entity.SchedulerRunCheckpoint;
+import com.jobsearch.entity.SchedulerRunRecord;
+import com.jobsearch.repository.SchedulerRunCheckpointRepository;
+import com.jobsearch.repository.SchedulerRunRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerCheckpointService {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+
+    private static final LocalDateTime RELEASED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SchedulerRunRecordRepository runRecordRepository;
+    private final SchedulerRunCheckpointRepository checkpointRepository;
+    private final PartitionLeaseService partitionLeaseService;
+
+    @Value("${job.scheduler.checkpoint.stale-after-seconds:120}")
+    private long staleAfterSeconds;
+
+    @Value("${job.scheduler.checkpoint.retention-days:7}")
+    private int retentionDays;
+
+    public void recordRunStarted(String runId, String trigger, List<Long> alertIds) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            runRecordRepository.save(new SchedulerRunRecord(runId, trigger, STATUS_RUNNING,
+                    partitionLeaseService.getNodeId(), alertIds.size(), joinIds(alertIds), now, now, null));
+        } catch (Exception e) {
+            log.error("Erro ao registrar início da execução {}: {}", runId, e.getMessage());
+        }
+    }
+
+    public void recordSearchFetched(String runId, String searchKey, List<Long> vacancyIds) {
+        try {
+            SchedulerRunCheckpoint checkpoint = new SchedulerRunCheckpoint();
+            checkpoint.setRunId(runId);
+            checkpoint.setSearchKey(searchKey);
+            checkpoint.setVacancyIds(joinIds(vacancyIds));
+            checkpointRepository.save(checkpoint);
+        } catch (Exception e) {
+            log.error("Erro ao registrar checkpoint da busca '{}' na execução {}: {}", searchKey, runId, e.getMessage());
+        }
+    }
+
+    public void recordAlertDone(String runId, Long alertId) {
+        try {
+            SchedulerRunCheckpoint checkpoint = new SchedulerRunCheckpoint();
+            checkpoint.setRunId(runId);
+            checkpoint.setAlertId(alertId);
+            checkpointRepository.save(checkpoint);
+        } catch (Exception e) {
+            log.error("Erro ao registrar checkpoint do alerta {} na execução {}: {}", alertId, runId, e.getMessage());
+        }
+    }
+
+    public void heartbeat(String runId) {
+        try {
+            runRecordRepository.touch(runId, LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("Erro ao renovar execução {}: {}", runId, e.getMessage());
+        }
+    }
+
+    public void recordRunFinished(String runId, String status) {
+        try {
+            runRecordRepository.findById(runId).ifPresent(record -> {
+                LocalDateTime now = LocalDateTime.now();
+                record.setStatus(status);
+                record.setUpdatedAt(now);
+                record.setFinishedAt(now);
+                runRecordRepository.save(record);
+            });
+            checkpointRepository.deleteByRunId(runId);
+        } catch (Exception e) {
+            log.error("Erro ao registrar fim da execução {}: {}", runId, e.getMessage());
+        }
+    }
+
+    public void recordRunInterrupted(String runId) {
+        try {
+            runRecordRepository.touch(runId, RELEASED_AT);
+            log.info("Execução {} interrompida, será retomada a partir do último checkpoint", runId);
+        } catch (Exception e) {
+            log.error("Erro ao liberar execução interrompida {}: {}", runId, e.getMessage());
+        }
+    }
+
+    public Optional<SchedulerRunRecord> claimOrphanedRun(String activeRunId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusSeconds(staleAfterSeconds);
+
+        for (SchedulerRunRecord record : runRecordRepository
+                .findByStatusAndUpdatedAtBeforeOrderByStartedAtAsc(STATUS_RUNNING, staleBefore)) {
+            if (record.getId().equals(activeRunId)) {
+                continue;
+            }
+            if (runRecordRepository.claimOrphaned(record.getId(), partitionLeaseService.getNodeId(),
+                    now, staleBefore) == 1) {
+                log.info("Execução {} do nó {} assumida pelo nó {}",
+                        record.getId(), record.getNodeId(), partitionLeaseService.getNodeId());
+                return Optional.of(record);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Scheduled(fixedDelayString = "${job.scheduler.checkpoint.cleanup-interval:3600000}",
+            initialDelayString = "${job.scheduler.checkpoint.cleanup-interval:3600000}")
+    public void cleanup() {
+        try {
+            int checkpoints = checkpointRepository.deleteOfFinishedRuns();
+            int runs = runRecordRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+            if (runs > 0 || checkpoints > 0) {
+                log.info("Limpeza de execuções: {} execuções finalizadas e {} checkpoints removidos", runs, checkpoints);
+            }
+        } catch (Exception e) {
+            log.error("Erro ao limpar execuções antigas: {}", e.getMessage(), e);
+        }
+    }
+
+    public Set<Long> getDoneAlertIds(String runId) {
+        return new HashSet<>(checkpointRepository.findDoneAlertIds(runId));
+    }
+
+    public Map<String, List<Long>> getFetchedSearches(String runId) {
+        Map<String, List<Long>> fetched = new LinkedHashMap<>();
+        for (SchedulerRunCheckpoint checkpoint : checkpointRepository.findByRunIdAndSearchKeyIsNotNull(runId)) {
+            fetched.put(checkpoint.getSearchKey(), splitIds(checkpoint.getVacancyIds()));
+        }
+        return fetched;
+    }
+
+    public List<Long> getRunAlertIds(SchedulerRunRecord record) {
+        return splitIds(record.getAlertIds());
+    }
+
+    private String joinIds(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private List<Long> splitIds(String ids) {
+        if (ids == null || ids.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,149 @@
+package com.jobsearch.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class SearchTerms {
+
+    public static final int MAX_PHRASE_WORDS = 4;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private SearchTerms() {
+    }
+
+    public static String toDocument(CharSequence content) {
+        return String.join(" ", tokenize(content));
+    }
+
+    public static Set<String> indexDocument(String document) {
+        if (document == null || document.isEmpty()) {
+            return Set.of();
+        }
+        return index(List.of(document.split(" ")));
+    }
+
+    public static Set<String> index(CharSequence content) {
+        return index(tokenize(content));
+    }
+
+    private static Set<String> index(List<String> tokens) {
+        Set<String> terms = new HashSet<>(tokens.size() * 2);
+
+        for (int start = 0; start < tokens.size(); start++) {
+            StringBuilder phrase = new StringBuilder();
+            for (int length = 1; length <= MAX_PHRASE_WORDS && start + length <= tokens.size(); length++) {
+                if (length > 1) {
+                    phrase.append(' ');
+                }
+                phrase.append(tokens.get(start + length - 1));
+                terms.add(phrase.toString());
+            }
+        }
+        return terms;
+    }
+
+    public static String[] keysOf(String tag) {
+        List<String> tokens = tokenize(tag);
+        if (tokens.isEmpty()) {
+            return new String[0];
+        }
+        if (tokens.size() <= MAX_PHRASE_WORDS) {
+            return new String[]{String.join(" ", tokens)};
+        }
+
+        String[] windows = new String[tokens.size() - MAX_PHRASE_WORDS + 1];
+        for (int start = 0; start < windows.length; start++) {
+            windows[start] = String.join(" ", tokens.subList(start, start + MAX_PHRASE_WORDS));
+        }
+        return windows;
+    }
+
+    public static boolean containsAll(Set<String> terms, String[] keys) {
+        for (String key : keys) {
+            if (!terms.contains(key)) {
+                return false;
+            }
+        }
+        return keys.length > 0;
+    }
+
+    public static int countPhrase(String[] tokens, List<String> words) {
+        if (words.isEmpty()) {
+            return 0;
+        }
+
+        int count = 0;
+        for (int start = 0; start + words.size() <= tokens.length; start++) {
+            int matched = 0;
+            while (matched < words.size() && tokens[start + matched].equals(words.get(matched))) {
+                matched++;
+            }
+            if (matched == words.size()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static String[] locationKeysOf(String location) {
+        return keysOf(location);
+    }
+
+    public static boolean locationMatches(String[] locationKeys, Set<String> locationTerms) {
+        return locationKeys.length == 0 || containsAll(locationTerms, locationKeys);
+    }
+
+    public static boolean locationMatches(String alertLocation, String vacancyLocation) {
+        return locationMatches(locationKeysOf(alertLocation), index(vacancyLocation));
+    }
+
+    public static String fold(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+
+        String value = text.toString();
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return COMBINING_MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+            }
+        }
+        return value;
+    }
+
+    public static List<String> tokenize(CharSequence content) {
+        List<String> tokens = new ArrayList<>();
+        String text = fold(content);
+        if (text == null) {
+            return tokens;
+        }
+
+        StringBuilder token = new StringBuilder();
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            boolean nextIsWordChar = i + 1 < length && Character.isLetterOrDigit(text.charAt(i + 1));
+
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if ((c == '+' || c == '#') && token.length() > 0 && !nextIsWordChar) {
+                token.append(c);
+            } else if (c == '.' && token.length() > 0 && nextIsWordChar) {
+                token.append(c);
+            } else if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+}
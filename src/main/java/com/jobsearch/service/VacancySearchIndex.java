@@ -0,0 +1,424 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.SchedulerDTO;
+import com.jobsearch.entity.JobVacancy;
+import com.jobsearch.repository.JobVacancyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VacancySearchIndex {
+
+    private final JobVacancyRepository jobVacancyRepository;
+
+    @Value("${job.search-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${job.search-index.batch-size:500}")
+    private int batchSize;
+
+    @Value("${job.search-index.rescan-overlap-seconds:300}")
+    private long rescanOverlapSeconds;
+
+    @Value("${job.search-index.retention-days:30}")
+    private long retentionDays;
+
+    private static final BitSet[] NO_POSTINGS = new BitSet[0];
+    private static final long TERM_OVERHEAD_BYTES = 120;
+    private static final long DOCUMENT_OVERHEAD_BYTES = 160;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final Map<Long, Integer> docNumbers = new HashMap<>();
+    private final List<Long> vacancyIds = new ArrayList<>();
+    private final List<BitSet[]> docPostings = new ArrayList<>();
+    private final List<Integer> docLengths = new ArrayList<>();
+    private final List<LocalDateTime> docPostedAt = new ArrayList<>();
+    private final BitSet liveDocs = new BitSet();
+
+    private LocalDateTime indexedUntil;
+    private long totalLength;
+    private long purgedDocuments;
+    private long compactions;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        int indexed = catchUp();
+        log.info("Índice local de vagas construído: {} vagas em {} ms", indexed, System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${job.search-index.refresh-interval:60000}",
+            initialDelayString = "${job.search-index.refresh-interval:60000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            int indexed = catchUp();
+            if (indexed > 0) {
+                log.debug("Índice local de vagas: {} vagas novas indexadas", indexed);
+            }
+            purgeExpired();
+        } catch (Exception e) {
+            log.error("Erro ao atualizar índice local de vagas: {}", e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVacanciesSaved(JobVacanciesSavedEvent event) {
+        add(event.vacancies());
+    }
+
+    public void add(List<JobVacancy> vacancies) {
+        if (!enabled || vacancies == null || vacancies.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            vacancies.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> findCandidates(AlertMatcher alertMatcher) {
+        if (!enabled || !alertMatcher.hasTags()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<BitSet> tagDocs = new ArrayList<>();
+            BitSet candidates = (BitSet) liveDocs.clone();
+            for (AlertMatcher.TagWords tag : alertMatcher.getTagWords()) {
+                BitSet docs = docsWithAllWords(tag.words());
+                tagDocs.add(docs);
+                if (tag.required()) {
+                    candidates.and(docs);
+                }
+            }
+
+            if (alertMatcher.getMinimumTags() <= 1) {
+                BitSet anyTag = new BitSet();
+                tagDocs.forEach(anyTag::or);
+                candidates.and(anyTag);
+            } else {
+                int[] tagCounts = new int[vacancyIds.size()];
+                for (BitSet docs : tagDocs) {
+                    for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+                        tagCounts[doc]++;
+                    }
+                }
+                for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+                    if (tagCounts[doc] < alertMatcher.getMinimumTags()) {
+                        candidates.clear(doc);
+                    }
+                }
+            }
+
+            List<Long> result = new ArrayList<>(candidates.cardinality());
+            for (int doc = candidates.previousSetBit(vacancyIds.size() - 1); doc >= 0;
+                 doc = candidates.previousSetBit(doc - 1)) {
+                result.add(vacancyIds.get(doc));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentFrequency(List<String> words) {
+        lock.readLock().lock();
+        try {
+            int frequency = Integer.MAX_VALUE;
+            for (String word : words) {
+                BitSet posting = postings.get(word);
+                frequency = Math.min(frequency, posting == null ? 0 : posting.cardinality());
+            }
+            return words.isEmpty() ? 0 : frequency;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SchedulerDTO.SearchIndexStats getStats() {
+        lock.readLock().lock();
+        try {
+            long postingBytes = 0;
+            long termBytes = 0;
+            for (Map.Entry<String, BitSet> entry : postings.entrySet()) {
+                postingBytes += entry.getValue().size() / 8;
+                termBytes += 2L * entry.getKey().length();
+            }
+            long documentSlotBytes = 0;
+            for (BitSet[] documentPostings : docPostings) {
+                documentSlotBytes += 4L * documentPostings.length;
+            }
+
+            SchedulerDTO.SearchIndexStats stats = new SchedulerDTO.SearchIndexStats();
+            stats.setEnabled(enabled);
+            stats.setDocuments(liveDocs.cardinality());
+            stats.setDeletedDocuments(vacancyIds.size() - liveDocs.cardinality());
+            stats.setTerms(postings.size());
+            stats.setRetentionDays(retentionDays);
+            stats.setPurgedDocuments(purgedDocuments);
+            stats.setCompactions(compactions);
+            stats.setPostingBytes(postingBytes);
+            stats.setEstimatedBytes(postingBytes + termBytes + documentSlotBytes
+                    + TERM_OVERHEAD_BYTES * postings.size() + DOCUMENT_OVERHEAD_BYTES * vacancyIds.size());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public double averageDocumentLength() {
+        lock.readLock().lock();
+        try {
+            int documents = liveDocs.cardinality();
+            return documents > 0 ? (double) totalLength / documents : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private synchronized int catchUp() {
+        LocalDateTime since = indexedUntil != null ? indexedUntil.minusSeconds(rescanOverlapSeconds)
+                : retentionDays > 0 ? retentionCutoff() : null;
+        int indexed = 0;
+        int page = 0;
+        List<JobVacancy> batch;
+        do {
+            PageRequest pageRequest = PageRequest.of(page++, batchSize, Sort.by("createdAt", "id"));
+            batch = since != null
+                    ? jobVacancyRepository.findByCreatedAtGreaterThanEqual(since, pageRequest)
+                    : jobVacancyRepository.findAll(pageRequest).getContent();
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (JobVacancy vacancy : batch) {
+                    if (!docNumbers.containsKey(vacancy.getId())) {
+                        index(vacancy);
+                        indexed++;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            LocalDateTime newest = batch.get(batch.size() - 1).getCreatedAt();
+            if (indexedUntil == null || (newest != null && newest.isAfter(indexedUntil))) {
+                indexedUntil = newest;
+            }
+        } while (batch.size() == batchSize);
+        return indexed;
+    }
+
+    private void purgeExpired() {
+        if (retentionDays <= 0) {
+            return;
+        }
+
+        LocalDateTime cutoff = retentionCutoff();
+        int purged = 0;
+        lock.writeLock().lock();
+        try {
+            for (int doc = liveDocs.nextSetBit(0); doc >= 0; doc = liveDocs.nextSetBit(doc + 1)) {
+                LocalDateTime postedAt = docPostedAt.get(doc);
+                if (postedAt != null && postedAt.isBefore(cutoff)) {
+                    remove(doc);
+                    purged++;
+                }
+            }
+            purgedDocuments += purged;
+
+            int deleted = vacancyIds.size() - liveDocs.cardinality();
+            if (deleted > 0 && deleted >= liveDocs.cardinality()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (purged > 0) {
+            log.info("Índice local de vagas: {} vagas anteriores a {} removidas", purged, cutoff.toLocalDate());
+        }
+    }
+
+    private void remove(int doc) {
+        for (BitSet posting : docPostings.get(doc)) {
+            posting.clear(doc);
+        }
+        totalLength -= docLengths.get(doc);
+        docNumbers.remove(vacancyIds.get(doc));
+        docPostings.set(doc, NO_POSTINGS);
+        docLengths.set(doc, 0);
+        docPostedAt.set(doc, null);
+        liveDocs.clear(doc);
+    }
+
+    private void compact() {
+        int[] renumbered = new int[vacancyIds.size()];
+        List<Long> liveIds = new ArrayList<>();
+        List<BitSet[]> livePostings = new ArrayList<>();
+        List<Integer> liveLengths = new ArrayList<>();
+        List<LocalDateTime> livePostedAt = new ArrayList<>();
+        for (int doc = liveDocs.nextSetBit(0); doc >= 0; doc = liveDocs.nextSetBit(doc + 1)) {
+            renumbered[doc] = liveIds.size();
+            liveIds.add(vacancyIds.get(doc));
+            livePostings.add(docPostings.get(doc));
+            liveLengths.add(docLengths.get(doc));
+            livePostedAt.add(docPostedAt.get(doc));
+        }
+
+        Map<BitSet, BitSet> replacements = new IdentityHashMap<>();
+        Iterator<Map.Entry<String, BitSet>> terms = postings.entrySet().iterator();
+        while (terms.hasNext()) {
+            Map.Entry<String, BitSet> term = terms.next();
+            BitSet posting = term.getValue();
+            if (posting.isEmpty()) {
+                terms.remove();
+                continue;
+            }
+            BitSet compacted = new BitSet(liveIds.size());
+            for (int doc = posting.nextSetBit(0); doc >= 0; doc = posting.nextSetBit(doc + 1)) {
+                compacted.set(renumbered[doc]);
+            }
+            replacements.put(posting, compacted);
+            term.setValue(compacted);
+        }
+
+        for (int doc = 0; doc < livePostings.size(); doc++) {
+            BitSet[] documentPostings = livePostings.get(doc);
+            for (int i = 0; i < documentPostings.length; i++) {
+                documentPostings[i] = replacements.get(documentPostings[i]);
+            }
+        }
+
+        vacancyIds.clear();
+        vacancyIds.addAll(liveIds);
+        docPostings.clear();
+        docPostings.addAll(livePostings);
+        docLengths.clear();
+        docLengths.addAll(liveLengths);
+        docPostedAt.clear();
+        docPostedAt.addAll(livePostedAt);
+        docNumbers.clear();
+        for (int doc = 0; doc < vacancyIds.size(); doc++) {
+            docNumbers.put(vacancyIds.get(doc), doc);
+        }
+        liveDocs.clear();
+        liveDocs.set(0, vacancyIds.size());
+        compactions++;
+
+        log.debug("Índice local de vagas compactado: {} vagas, {} termos", vacancyIds.size(), postings.size());
+    }
+
+    private LocalDateTime retentionCutoff() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    private BitSet docsWithAllWords(List<String> words) {
+        BitSet docs = null;
+        for (String word : words) {
+            BitSet posting = postings.get(word);
+            if (posting == null) {
+                return new BitSet();
+            }
+            if (docs == null) {
+                docs = (BitSet) posting.clone();
+            } else {
+                docs.and(posting);
+            }
+        }
+        return docs != null ? docs : new BitSet();
+    }
+
+    private void index(JobVacancy vacancy) {
+        if (vacancy.getId() == null) {
+            return;
+        }
+
+        Integer previous = docNumbers.get(vacancy.getId());
+        LocalDateTime postedAt = vacancy.getPublishedAt() != null ? vacancy.getPublishedAt() : vacancy.getCreatedAt();
+        if (retentionDays > 0 && postedAt != null && postedAt.isBefore(retentionCutoff())) {
+            if (previous != null) {
+                remove(previous);
+            }
+            return;
+        }
+
+        if (previous != null) {
+            for (BitSet posting : docPostings.get(previous)) {
+                posting.clear(previous);
+            }
+            totalLength -= docLengths.get(previous);
+        }
+
+        String document = JobMatchingService.searchDocumentOf(vacancy);
+        int doc = previous != null ? previous : vacancyIds.size();
+        List<BitSet> vacancyPostings = new ArrayList<>();
+        String[] words = document.isEmpty() ? new String[0] : document.split(" ");
+        for (String word : words) {
+            BitSet posting = postings.computeIfAbsent(word, k -> new BitSet());
+            if (!posting.get(doc)) {
+                posting.set(doc);
+                vacancyPostings.add(posting);
+            }
+        }
+
+        if (previous != null) {
+            docPostings.set(doc, vacancyPostings.toArray(new BitSet[0]));
+            docLengths.set(doc, words.length);
+            docPostedAt.set(doc, postedAt);
+        } else {
+            vacancyIds.add(vacancy.getId());
+            docPostings.add(vacancyPostings.toArray(new BitSet[0]));
+            docLengths.add(words.length);
+            docPostedAt.add(postedAt);
+            docNumbers.put(vacancy.getId(), doc);
+        }
+        totalLength += words.length;
+        liveDocs.set(doc);
+    }
+}
@@ -0,0 +1,130 @@
+package com.jobsearch.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebConfigTest {
+
+    private HttpServer server;
+    private ConnectionProvider connectionProvider;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final List<String> acceptEncodings = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.createContext("/search", this::respond);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void reusesKeptAliveConnectionsAcrossRequests() {
+        WebClient webClient = webClient(10);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(get(webClient)).isEqualTo("{\"status\":\"OK\"}");
+        }
+
+        assertThat(clientPorts).hasSizeLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void capsConcurrentConnectionsAtThePoolSize() {
+        WebClient webClient = webClient(2);
+
+        List<String> bodies = Flux.range(0, 8)
+                .flatMap(i -> webClient.get().uri(url()).retrieve().bodyToMono(String.class))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(bodies).hasSize(8);
+        assertThat(clientPorts).hasSizeLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void requestsAndDecodesGzipResponses() {
+        WebClient webClient = webClient(10);
+
+        assertThat(get(webClient)).isEqualTo("{\"status\":\"OK\"}");
+        assertThat(acceptEncodings).allMatch(value -> value != null && value.contains("gzip"));
+    }
+
+    private WebClient webClient(int maxConnections) {
+        WebConfig config = new WebConfig();
+        ReflectionTestUtils.setField(config, "maxConnectionsPerRoute", maxConnections);
+        ReflectionTestUtils.setField(config, "maxPendingAcquires", 100);
+        ReflectionTestUtils.setField(config, "connectTimeoutMillis", 2000);
+        ReflectionTestUtils.setField(config, "readTimeoutMillis", 5000L);
+        ReflectionTestUtils.setField(config, "poolAcquireTimeoutMillis", 5000L);
+        ReflectionTestUtils.setField(config, "keepAliveMillis", 60000L);
+        ReflectionTestUtils.setField(config, "idleEvictionMillis", 30000L);
+        ReflectionTestUtils.setField(config, "compressionEnabled", true);
+        connectionProvider = config.jsearchConnectionProvider();
+        return config.webClient(connectionProvider);
+    }
+
+    private String get(WebClient webClient) {
+        return webClient.get().uri(url()).retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5));
+    }
+
+    private String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/search";
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        acceptEncodings.add(acceptEncoding);
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] body = "{\"status\":\"OK\"}".getBytes(StandardCharsets.UTF_8);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.jobsearch.repository;
+
+import com.jobsearch.entity.JobAlert;
+import com.jobsearch.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class JobAlertRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JobAlertRepository jobAlertRepository;
+
+    private User user;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setName("Bia");
+        user.setEmail("bia@example.com");
+        entityManager.persist(user);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void findsOnlyActiveAlertsWhoseNextRunHasPassed() {
+        JobAlert overdue = persistAlert("atrasado", now.minusHours(2), true);
+        JobAlert due = persistAlert("no horário", now.minusMinutes(1), true);
+        persistAlert("futuro", now.plusMinutes(30), true);
+        persistAlert("inativo", now.minusHours(1), false);
+
+        List<JobAlert> dueAlerts = jobAlertRepository.findDueAlerts(now, PageRequest.of(0, 10));
+
+        assertThat(dueAlerts).extracting(JobAlert::getId).containsExactly(overdue.getId(), due.getId());
+    }
+
+    @Test
+    void limitsDueAlertsToTheRequestedBatch() {
+        JobAlert oldest = persistAlert("primeiro", now.minusHours(3), true);
+        persistAlert("segundo", now.minusHours(2), true);
+        persistAlert("terceiro", now.minusHours(1), true);
+
+        List<JobAlert> dueAlerts = jobAlertRepository.findDueAlerts(now, PageRequest.of(0, 1));
+
+        assertThat(dueAlerts).extracting(JobAlert::getId).containsExactly(oldest.getId());
+    }
+
+    @Test
+    void findsDueAlertsOnlyInTheRequestedPartitions() {
+        List<JobAlert> alerts = List.of(persistAlert("a", now.minusMinutes(5), true),
+                persistAlert("b", now.minusMinutes(4), true), persistAlert("c", now.minusMinutes(3), true));
+        int partitionCount = 2;
+        int partition = (int) (alerts.get(0).getId() % partitionCount);
+
+        List<JobAlert> dueAlerts = jobAlertRepository.findDueAlertsInPartitions(now, partitionCount,
+                List.of(partition), PageRequest.of(0, 10));
+
+        assertThat(dueAlerts).containsExactlyElementsOf(alerts.stream()
+                .filter(alert -> alert.getId() % partitionCount == partition)
+                .toList());
+    }
+
+    private JobAlert persistAlert(String title, LocalDateTime nextRunAt, boolean active) {
+        JobAlert alert = new JobAlert();
+        alert.setTitle(title);
+        alert.setSearchQuery("java");
+        alert.setLocation("São Paulo");
+        alert.setLocationType(JobAlert.LocationType.QUALQUER);
+        alert.setMinimumMatchingTags(1);
+        alert.setIsActive(active);
+        alert.setNextRunAt(nextRunAt);
+        alert.setUser(user);
+        return entityManager.persist(alert);
+    }
+}
@@ -0,0 +1,78 @@
+package com.jobsearch.repository;
+
+import com.jobsearch.entity.SchedulerNode;
+import com.jobsearch.entity.SchedulerPartitionLease;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class SchedulerPartitionLeaseRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SchedulerPartitionLeaseRepository leaseRepository;
+
+    @Autowired
+    private SchedulerNodeRepository nodeRepository;
+
+    @Test
+    void grantsAFreePartitionAndRenewsItForItsOwner() {
+        leaseRepository.insertPartition(0);
+
+        assertThat(leaseRepository.tryAcquire(0, "node-a", 60)).isEqualTo(1);
+        assertThat(leaseRepository.tryAcquire(0, "node-a", 60)).isEqualTo(1);
+        assertThat(lease(0).getOwnerNodeId()).isEqualTo("node-a");
+        assertThat(lease(0).getExpiresAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+    }
+
+    @Test
+    void refusesAPartitionHeldByAnotherNodeUntilItsLeaseExpires() {
+        leaseRepository.insertPartition(0);
+        leaseRepository.tryAcquire(0, "node-a", 60);
+
+        assertThat(leaseRepository.tryAcquire(0, "node-b", 60)).isZero();
+
+        leaseRepository.tryAcquire(0, "node-a", -1);
+        assertThat(leaseRepository.tryAcquire(0, "node-b", 60)).isEqualTo(1);
+        assertThat(lease(0).getOwnerNodeId()).isEqualTo("node-b");
+    }
+
+    @Test
+    void releasesOnlyLeasesOwnedByTheCaller() {
+        leaseRepository.insertPartition(0);
+        leaseRepository.tryAcquire(0, "node-a", 60);
+
+        assertThat(leaseRepository.release(0, "node-b")).isZero();
+        assertThat(leaseRepository.release(0, "node-a")).isEqualTo(1);
+        assertThat(lease(0).getOwnerNodeId()).isNull();
+        assertThat(leaseRepository.tryAcquire(0, "node-b", 60)).isEqualTo(1);
+    }
+
+    @Test
+    void tracksNodeHeartbeatsWithTheDatabaseClock() {
+        assertThat(nodeRepository.touch("node-a")).isZero();
+        nodeRepository.register("node-a");
+        assertThat(nodeRepository.touch("node-a")).isEqualTo(1);
+
+        LocalDateTime longAgo = LocalDateTime.now().minusHours(1);
+        entityManager.persist(new SchedulerNode("node-b", longAgo, longAgo));
+        entityManager.flush();
+
+        assertThat(nodeRepository.countAlive(60)).isEqualTo(1);
+        assertThat(nodeRepository.deleteStaleNodes(600)).isEqualTo(1);
+        assertThat(nodeRepository.findAll()).extracting(SchedulerNode::getNodeId).containsExactly("node-a");
+    }
+
+    private SchedulerPartitionLease lease(int partitionId) {
+        entityManager.clear();
+        return leaseRepository.findById(partitionId).orElseThrow();
+    }
+}
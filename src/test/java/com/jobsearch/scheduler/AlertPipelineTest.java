@@ -0,0 +1,182 @@
+package com.jobsearch.scheduler;
+
+import com.jobsearch.dto.JSearchDTO;
+import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.exception.SchedulerRunTimeoutException;
+import com.jobsearch.service.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AlertPipelineTest {
+
+    @Mock
+    private JobAlertService jobAlertService;
+    @Mock
+    private JobSearchCrawler jobSearchCrawler;
+    @Mock
+    private JobMatchingService jobMatchingService;
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private JobDuplicateService jobDuplicateService;
+    @Mock
+    private SchedulerCheckpointService checkpointService;
+    @Mock
+    private JSearchCircuitBreaker circuitBreaker;
+    @Mock
+    private JSearchQuotaService quotaService;
+    @Mock
+    private AlertPercolator alertPercolator;
+    @Mock
+    private AlertMatcherCache alertMatcherCache;
+    @Mock
+    private RelevanceScorer relevanceScorer;
+
+    private AlertPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new AlertPipeline(jobAlertService, jobSearchCrawler, jobMatchingService, emailService,
+                jobDuplicateService, checkpointService, circuitBreaker, quotaService, alertPercolator,
+                alertMatcherCache, relevanceScorer);
+        ReflectionTestUtils.setField(pipeline, "runTimeoutMinutes", 1L);
+        ReflectionTestUtils.setField(pipeline, "queueCapacity", 10);
+        ReflectionTestUtils.setField(pipeline, "fetchWorkers", 2);
+        ReflectionTestUtils.setField(pipeline, "maxFetchesInFlight", 4);
+        ReflectionTestUtils.setField(pipeline, "transientFailureRetryDelaySeconds", 300L);
+        ReflectionTestUtils.setField(pipeline, "persistWorkers", 1);
+        ReflectionTestUtils.setField(pipeline, "matchWorkers", 1);
+        ReflectionTestUtils.setField(pipeline, "dedupeWorkers", 1);
+        ReflectionTestUtils.setField(pipeline, "emailWorkers", 1);
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.stop();
+    }
+
+    @Test
+    void fetchesDistinctSearchesConcurrently() throws Exception {
+        CountDownLatch bothFetching = new CountDownLatch(2);
+        when(jobSearchCrawler.crawl(any())).thenAnswer(invocation -> {
+            bothFetching.countDown();
+            boolean concurrent = bothFetching.await(5, TimeUnit.SECONDS);
+            return concurrent ? Mono.just(emptyResult()) : Mono.error(new IllegalStateException("sequencial"));
+        });
+
+        SchedulerRun run = new SchedulerRun(SchedulerRun.Trigger.MANUAL);
+        pipeline.process(run, List.of(alert(1L, "java"), alert(2L, "python")), Map.of());
+
+        assertThat(run.getErrors()).isZero();
+        assertThat(run.getAlertsDone()).isEqualTo(2);
+    }
+
+    @Test
+    void failingSearchDoesNotAbortTheOtherAlerts() throws Exception {
+        when(jobSearchCrawler.crawl(argThat(key -> key != null && key.query().equals("quebrada"))))
+                .thenReturn(Mono.error(new IllegalStateException("falha")));
+        when(jobSearchCrawler.crawl(argThat(key -> key != null && !key.query().equals("quebrada"))))
+                .thenReturn(Mono.just(emptyResult()));
+
+        SchedulerRun run = new SchedulerRun(SchedulerRun.Trigger.MANUAL);
+        pipeline.process(run, List.of(alert(1L, "java"), alert(2L, "quebrada"), alert(3L, "python")), Map.of());
+
+        assertThat(run.getErrors()).isEqualTo(1);
+        assertThat(run.getAlertsDone()).isEqualTo(3);
+    }
+
+    @Test
+    void alertsSharingASearchTriggerASingleFetch() throws Exception {
+        when(jobSearchCrawler.crawl(any())).thenReturn(Mono.just(emptyResult()));
+
+        SchedulerRun run = new SchedulerRun(SchedulerRun.Trigger.MANUAL);
+        pipeline.process(run, List.of(alert(1L, "Java Developer"), alert(2L, "  java   developer "),
+                alert(3L, "python")), Map.of());
+
+        verify(jobSearchCrawler, times(1)).crawl(JSearchQueryKey.of("java developer", "são paulo", null));
+        verify(jobSearchCrawler, times(2)).crawl(any());
+        assertThat(run.getAlertsDone()).isEqualTo(3);
+    }
+
+    @Test
+    void reusesSearchesAlreadyFetchedInTheRun() throws Exception {
+        JSearchQueryKey key = JSearchQueryKey.of("java", "São Paulo", null);
+        when(jobMatchingService.getJobVacanciesByIds(List.of(10L, 11L))).thenReturn(List.of());
+
+        SchedulerRun run = new SchedulerRun(SchedulerRun.Trigger.RESUMED);
+        pipeline.process(run, List.of(alert(1L, "java")), Map.of(key.toString(), List.of(10L, 11L)));
+
+        verify(jobSearchCrawler, never()).crawl(any());
+        verify(jobMatchingService).getJobVacanciesByIds(List.of(10L, 11L));
+        assertThat(run.getAlertsDone()).isEqualTo(1);
+    }
+
+    @Test
+    void failsTheRunWhenItExceedsTheTimeout() {
+        ReflectionTestUtils.setField(pipeline, "runTimeoutMinutes", 0L);
+        when(jobSearchCrawler.crawl(any())).thenReturn(Mono.never());
+
+        SchedulerRun run = new SchedulerRun(SchedulerRun.Trigger.MANUAL);
+
+        assertThatThrownBy(() -> pipeline.process(run, List.of(alert(1L, "java")), Map.of()))
+                .isInstanceOf(SchedulerRunTimeoutException.class);
+        assertThat(run.isCancelRequested()).isTrue();
+    }
+
+    @Test
+    @Timeout(10)
+    void releasesTheFetchPermitWhenTheCrawlFailsBeforeSubscribing() throws Exception {
+        ReflectionTestUtils.setField(pipeline, "fetchPermits", new Semaphore(1));
+        when(jobSearchCrawler.crawl(argThat(key -> key != null && key.query().equals("quebrada"))))
+                .thenThrow(new IllegalStateException("falha ao montar a busca"));
+        when(jobSearchCrawler.crawl(argThat(key -> key != null && !key.query().equals("quebrada"))))
+                .thenReturn(Mono.just(emptyResult()));
+
+        SchedulerRun run = new SchedulerRun(SchedulerRun.Trigger.MANUAL);
+        pipeline.process(run, List.of(alert(1L, "quebrada"), alert(2L, "java"), alert(3L, "python")), Map.of());
+
+        assertThat(run.getErrors()).isEqualTo(1);
+        assertThat(run.getAlertsDone()).isEqualTo(3);
+    }
+
+    private static JobSearchCrawler.CrawlResult emptyResult() {
+        return new JobSearchCrawler.CrawlResult(List.<JSearchDTO.JobData>of(), 1, "fim");
+    }
+
+    private static JobAlertDTO.JobAlertResponse alert(Long id, String query) {
+        JobAlertDTO.JobAlertResponse alert = new JobAlertDTO.JobAlertResponse();
+        alert.setId(id);
+        alert.setTitle("Alerta " + id);
+        alert.setSearchQuery(query);
+        alert.setLocation("São Paulo");
+        alert.setIsActive(true);
+        return alert;
+    }
+}
@@ -0,0 +1,111 @@
+package com.jobsearch.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PipelineStageTest {
+
+    private PipelineStage<Integer> stage;
+
+    @AfterEach
+    void tearDown() {
+        if (stage != null) {
+            stage.stop();
+        }
+    }
+
+    @Test
+    void routesFailedItemsToTheFailureHandlerAndKeepsProcessing() throws Exception {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        List<Integer> failed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        stage = new PipelineStage<>("teste", 1, 10, item -> {
+            try {
+                if (item == 2) {
+                    throw new IllegalStateException("falha");
+                }
+                handled.add(item);
+            } finally {
+                done.countDown();
+            }
+        }, (item, error) -> failed.add(item));
+        stage.start();
+
+        for (int item = 1; item <= 3; item++) {
+            stage.submit(item);
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitProcessed(3);
+        assertThat(handled).containsExactly(1, 3);
+        assertThat(failed).containsExactly(2);
+        assertThat(stage.getStats().getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void workerSurvivesAnInterruptedItem() throws Exception {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+        stage = new PipelineStage<>("teste", 1, 10, item -> {
+            if (item == 1) {
+                throw new InterruptedException("interrompido");
+            }
+            handled.add(item);
+        }, (item, error) -> failures.add(error));
+        stage.start();
+
+        stage.submit(1);
+        stage.submit(2);
+
+        awaitProcessed(2);
+        assertThat(failures).singleElement().isInstanceOf(InterruptedException.class);
+        assertThat(handled).containsExactly(2);
+    }
+
+    @Test
+    void blocksProducersWhenTheQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        stage = new PipelineStage<>("teste", 1, 1, item -> {
+            started.countDown();
+            release.await();
+        }, (item, error) -> {
+        });
+        stage.start();
+
+        stage.submit(1);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        stage.submit(2);
+
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> {
+            try {
+                stage.submit(3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread.sleep(200);
+        assertThat(blocked).isNotDone();
+        assertThat(stage.getStats().getQueueDepth()).isEqualTo(1);
+
+        release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+        awaitProcessed(3);
+    }
+
+    private void awaitProcessed(long items) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stage.getStats().getProcessed() < items && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(stage.getStats().getProcessed()).isEqualTo(items);
+    }
+}
@@ -0,0 +1,102 @@
+package com.jobsearch.scheduler;
+
+import com.jobsearch.exception.SchedulerRunNotFoundException;
+import com.jobsearch.service.SchedulerCheckpointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerRunRegistryTest {
+
+    @Mock
+    private SchedulerCheckpointService checkpointService;
+
+    private SchedulerRunRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SchedulerRunRegistry(checkpointService);
+    }
+
+    @Test
+    void allowsOnlyOneActiveRunAtATime() {
+        SchedulerRun run = registry.tryStart(SchedulerRun.Trigger.MANUAL).orElseThrow();
+
+        assertThat(registry.tryStart(SchedulerRun.Trigger.SCHEDULED)).isEmpty();
+        assertThat(registry.getActiveRun()).contains(run);
+
+        registry.complete(run);
+
+        assertThat(registry.getActiveRun()).isEmpty();
+        assertThat(registry.getLastRun()).contains(run);
+        assertThat(registry.tryStart(SchedulerRun.Trigger.SCHEDULED)).isPresent();
+    }
+
+    @Test
+    void reportsProgressOfARunByItsId() {
+        SchedulerRun run = registry.tryStart(SchedulerRun.Trigger.MANUAL).orElseThrow();
+        run.setTotalAlerts(3);
+        run.alertDone();
+        run.apiCalls(2);
+        run.matched(5);
+
+        SchedulerRun found = registry.getRun(run.getId());
+
+        assertThat(found.getStatus()).isEqualTo(SchedulerRun.Status.RUNNING);
+        assertThat(found.getAlertsDone()).isEqualTo(1);
+        assertThat(found.getTotalAlerts()).isEqualTo(3);
+        assertThat(found.getApiCalls()).isEqualTo(2);
+        assertThat(found.getMatches()).isEqualTo(5);
+    }
+
+    @Test
+    void cancelledRunFinishesAsCancelled() {
+        SchedulerRun run = registry.tryStart(SchedulerRun.Trigger.MANUAL).orElseThrow();
+
+        registry.cancel(run.getId());
+        assertThat(run.isCancelRequested()).isTrue();
+
+        registry.complete(run);
+        assertThat(run.getStatus()).isEqualTo(SchedulerRun.Status.CANCELLED);
+        assertThat(run.getFinishedAt()).isNotNull();
+        verify(checkpointService).recordRunFinished(run.getId(), "CANCELLED");
+    }
+
+    @Test
+    void failedRunKeepsTheErrorMessage() {
+        SchedulerRun run = registry.tryStart(SchedulerRun.Trigger.MANUAL).orElseThrow();
+
+        registry.fail(run, new IllegalStateException("falhou"));
+
+        assertThat(run.getStatus()).isEqualTo(SchedulerRun.Status.FAILED);
+        assertThat(run.getErrorMessage()).isEqualTo("falhou");
+        assertThat(registry.getActiveRun()).isEmpty();
+    }
+
+    @Test
+    void unknownRunIdIsRejected() {
+        assertThatThrownBy(() -> registry.getRun("inexistente"))
+                .isInstanceOf(SchedulerRunNotFoundException.class);
+    }
+
+    @Test
+    void releasesTheActiveRunEvenWhenTheFinalCheckpointFails() {
+        doThrow(new IllegalStateException("banco indisponível"))
+                .when(checkpointService).recordRunFinished(anyString(), anyString());
+        SchedulerRun run = registry.tryStart(SchedulerRun.Trigger.MANUAL).orElseThrow();
+
+        registry.complete(run);
+
+        assertThat(registry.getActiveRun()).isEmpty();
+        assertThat(registry.tryStart(SchedulerRun.Trigger.SCHEDULED)).isPresent();
+    }
+}
@@ -0,0 +1,182 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.entity.AlertTag;
+import com.jobsearch.entity.JobAlert;
+import com.jobsearch.entity.JobVacancy;
+import com.jobsearch.entity.User;
+import com.jobsearch.exception.JobAlertInactiveException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AlertBackfillServiceTest {
+
+    @Mock
+    private JobAlertService jobAlertService;
+    @Mock
+    private VacancySearchIndex vacancySearchIndex;
+    @Mock
+    private JobMatchingService jobMatchingService;
+    @Mock
+    private JobDuplicateService jobDuplicateService;
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private RelevanceScorer relevanceScorer;
+
+    private AlertBackfillService backfillService;
+    private JobAlert alert;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        backfillService = new AlertBackfillService(jobAlertService, new AlertMatcherCache(), vacancySearchIndex,
+                jobMatchingService, jobDuplicateService, emailService, relevanceScorer);
+        ReflectionTestUtils.setField(backfillService, "maxAgeDays", 30);
+        ReflectionTestUtils.setField(backfillService, "maxResults", 50);
+        backfillService.initExecutor();
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail("dev@example.com");
+        AlertTag tag = new AlertTag();
+        tag.setTag("java");
+        tag.setIsRequired(false);
+        alert = new JobAlert();
+        alert.setId(1L);
+        alert.setTitle("Java");
+        alert.setLocation("SP");
+        alert.setMinimumMatchingTags(1);
+        alert.setIsActive(true);
+        alert.setUser(user);
+        alert.setAlertTags(new LinkedHashSet<>(Set.of(tag)));
+        when(jobAlertService.getJobAlertEntityById(1L)).thenReturn(alert);
+        when(jobAlertService.getJobAlertById(1L)).thenReturn(response(alert));
+        when(relevanceScorer.selectTop(any(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        backfillService.shutdownExecutor();
+    }
+
+    @Test
+    void previewKeepsOnlyRecentMatchingVacanciesInTheAlertLocation() {
+        JobVacancy match = vacancy(1L, "Desenvolvedor Java", "São Paulo, SP, BR", 1);
+        JobVacancy otherCity = vacancy(2L, "Desenvolvedor Java", "Springfield, IL, US", 1);
+        JobVacancy old = vacancy(3L, "Desenvolvedor Java", "São Paulo, SP, BR", 45);
+        JobVacancy otherStack = vacancy(4L, "Desenvolvedor Python", "São Paulo, SP, BR", 1);
+        givenCandidates(match, otherCity, old, otherStack);
+
+        JobAlertDTO.AlertPreviewResponse preview = backfillService.preview(1L, null);
+
+        assertThat(preview.getCandidates()).isEqualTo(4);
+        assertThat(preview.getJobs()).containsExactly(match);
+        assertThat(preview.getMatchedJobs()).isEqualTo(1);
+    }
+
+    @Test
+    void previewStopsAtTheRequestedLimit() {
+        givenCandidates(
+                vacancy(1L, "Java", "SP", 1),
+                vacancy(2L, "Java", "SP", 1),
+                vacancy(3L, "Java", "SP", 1));
+
+        assertThat(backfillService.preview(1L, 2).getJobs()).extracting(JobVacancy::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void rejectsBackfillForInactiveAlerts() {
+        alert.setIsActive(false);
+
+        assertThatThrownBy(() -> backfillService.backfill(1L, null))
+                .isInstanceOf(JobAlertInactiveException.class);
+        verifyNoInteractions(vacancySearchIndex, emailService);
+    }
+
+    @Test
+    void queuesUnsentMatchesAndDeliversThemInTheBackground() {
+        JobVacancy sent = vacancy(1L, "Desenvolvedor Java", "SP", 1);
+        JobVacancy fresh = vacancy(2L, "Desenvolvedor Java", "SP", 1);
+        givenCandidates(sent, fresh);
+        when(jobDuplicateService.filterAlreadySentJobs(eq(user), anyList())).thenReturn(List.of(fresh));
+
+        JobAlertDTO.AlertPreviewResponse response = backfillService.backfill(1L, null);
+
+        assertThat(response.getQueuedJobs()).isEqualTo(1);
+        verify(emailService, timeout(5000)).sendJobAlertEmail(user, List.of(fresh), "Java");
+        verify(jobDuplicateService, timeout(5000)).markJobsAsSent(user, List.of(fresh), "Java");
+    }
+
+    @Test
+    void skipsDeliveryWhenAnotherRunSentTheJobsFirst() throws InterruptedException {
+        JobVacancy fresh = vacancy(1L, "Desenvolvedor Java", "SP", 1);
+        givenCandidates(fresh);
+        when(jobDuplicateService.filterAlreadySentJobs(eq(user), anyList()))
+                .thenReturn(List.of(fresh), List.of());
+
+        backfillService.backfill(1L, null);
+        backfillService.shutdownExecutor();
+
+        verify(jobDuplicateService, times(2)).filterAlreadySentJobs(eq(user), anyList());
+        verify(emailService, never()).sendJobAlertEmail(any(), anyList(), any());
+    }
+
+    private void givenCandidates(JobVacancy... vacancies) {
+        List<Long> ids = Arrays.stream(vacancies).map(JobVacancy::getId).toList();
+        when(vacancySearchIndex.findCandidates(any())).thenReturn(ids);
+        when(jobMatchingService.getJobVacanciesByIds(ids)).thenReturn(List.of(vacancies));
+    }
+
+    private static JobVacancy vacancy(Long id, String title, String location, int daysAgo) {
+        JobVacancy vacancy = new JobVacancy();
+        vacancy.setId(id);
+        vacancy.setTitle(title);
+        vacancy.setCompany("Acme");
+        vacancy.setLocation(location);
+        vacancy.setPublishedAt(LocalDateTime.now().minusDays(daysAgo));
+        return vacancy;
+    }
+
+    private static JobAlertDTO.JobAlertResponse response(JobAlert alert) {
+        JobAlertDTO.JobAlertResponse response = new JobAlertDTO.JobAlertResponse();
+        response.setId(alert.getId());
+        response.setTitle(alert.getTitle());
+        response.setLocation(alert.getLocation());
+        response.setMinimumMatchingTags(alert.getMinimumMatchingTags());
+        response.setTags(alert.getAlertTags().stream().map(tag -> {
+            JobAlertDTO.TagResponse tagResponse = new JobAlertDTO.TagResponse();
+            tagResponse.setTag(tag.getTag());
+            tagResponse.setIsRequired(tag.getIsRequired());
+            return tagResponse;
+        }).toList());
+        return response;
+    }
+}
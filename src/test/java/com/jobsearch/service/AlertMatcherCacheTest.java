@@ -0,0 +1,70 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JobAlertDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlertMatcherCacheTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    private final AlertMatcherCache cache = new AlertMatcherCache();
+
+    @Test
+    void reusesTheCompiledMatcherWhileTheAlertIsUnchanged() {
+        AlertMatcher first = cache.get(alert(1L, UPDATED_AT, "java"));
+
+        AlertMatcher second = cache.get(alert(1L, UPDATED_AT, "java"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void recompilesWhenTheAlertWasUpdated() {
+        AlertMatcher first = cache.get(alert(1L, UPDATED_AT, "java"));
+
+        AlertMatcher second = cache.get(alert(1L, UPDATED_AT.plusMinutes(1), "python"));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.matches(SearchTerms.index("Desenvolvedor Python"))).isTrue();
+        assertThat(cache.get(alert(1L, UPDATED_AT.plusMinutes(1), "python"))).isSameAs(second);
+    }
+
+    @Test
+    void dropsTheMatcherWhenTheAlertChanges() {
+        AlertMatcher first = cache.get(alert(1L, UPDATED_AT, "java"));
+        cache.get(alert(2L, UPDATED_AT, "go"));
+
+        cache.onAlertChanged(new JobAlertChangedEvent(1L));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(alert(1L, UPDATED_AT, "java"))).isNotSameAs(first);
+    }
+
+    @Test
+    void doesNotCacheAlertsWithoutId() {
+        AlertMatcher matcher = cache.get(alert(null, UPDATED_AT, "java"));
+
+        assertThat(matcher.matches(Set.of("java"))).isTrue();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static JobAlertDTO.JobAlertResponse alert(Long id, LocalDateTime updatedAt, String tagValue) {
+        JobAlertDTO.TagResponse tag = new JobAlertDTO.TagResponse();
+        tag.setTag(tagValue);
+        tag.setIsRequired(false);
+        JobAlertDTO.JobAlertResponse alert = new JobAlertDTO.JobAlertResponse();
+        alert.setId(id);
+        alert.setTitle("Alerta");
+        alert.setMinimumMatchingTags(1);
+        alert.setUpdatedAt(updatedAt);
+        alert.setTags(List.of(tag));
+        return alert;
+    }
+}
@@ -0,0 +1,114 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.entity.AlertTag;
+import com.jobsearch.entity.JobAlert;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlertMatcherTest {
+
+    private static final Set<String> VACANCY = SearchTerms.index(
+            "Desenvolvedor Java Sênior - Spring Boot, microsserviços e Kafka. Conhecimento em Amazon Web Services.");
+
+    @Test
+    void matchesWhenAtLeastTheMinimumNumberOfTagsIsPresent() {
+        AlertMatcher matcher = AlertMatcher.compile(alert(2, tag("java", false), tag("python", false),
+                tag("kafka", false)));
+
+        assertThat(matcher.countMatchingTags(VACANCY)).isEqualTo(2);
+        assertThat(matcher.matches(VACANCY)).isTrue();
+    }
+
+    @Test
+    void rejectsVacanciesBelowTheMinimumNumberOfTags() {
+        AlertMatcher matcher = AlertMatcher.compile(alert(3, tag("java", false), tag("python", false),
+                tag("kafka", false)));
+
+        assertThat(matcher.matches(VACANCY)).isFalse();
+    }
+
+    @Test
+    void rejectsVacanciesMissingARequiredTag() {
+        AlertMatcher matcher = AlertMatcher.compile(alert(1, tag("java", false), tag("Python", true)));
+
+        assertThat(matcher.findMissingRequiredTag(VACANCY)).isEqualTo("Python");
+        assertThat(matcher.matches(VACANCY)).isFalse();
+    }
+
+    @Test
+    void matchesMultiWordTagsAsPhrases() {
+        AlertMatcher matcher = AlertMatcher.compile(alert(2, tag("Spring Boot", true),
+                tag("amazon web services", false)));
+        AlertMatcher reversed = AlertMatcher.compile(alert(1, tag("boot spring", false)));
+
+        assertThat(matcher.matches(VACANCY)).isTrue();
+        assertThat(reversed.matches(VACANCY)).isFalse();
+    }
+
+    @Test
+    void matchesTagsLongerThanTheIndexedPhraseLength() {
+        AlertMatcher matcher = AlertMatcher.compile(alert(1, tag("java sênior spring boot microsserviços", false)));
+        AlertMatcher broken = AlertMatcher.compile(alert(1, tag("java sênior spring boot kafka", false)));
+
+        assertThat(matcher.matches(VACANCY)).isTrue();
+        assertThat(broken.matches(VACANCY)).isFalse();
+    }
+
+    @Test
+    void defaultsTheMinimumToOneTagAndNeverMatchesWithoutTags() {
+        AlertMatcher matcher = AlertMatcher.compile(alert(null, tag("kafka", false), tag("go", false)));
+        AlertMatcher empty = AlertMatcher.compile(alert(1, tag("  ", false)));
+
+        assertThat(matcher.getMinimumTags()).isEqualTo(1);
+        assertThat(matcher.matches(VACANCY)).isTrue();
+        assertThat(empty.hasTags()).isFalse();
+        assertThat(empty.matches(VACANCY)).isFalse();
+    }
+
+    @Test
+    void compilesTheSameRulesFromTheAlertResponse() {
+        JobAlertDTO.JobAlertResponse response = new JobAlertDTO.JobAlertResponse();
+        response.setId(1L);
+        response.setTitle("Java");
+        response.setMinimumMatchingTags(2);
+        response.setUpdatedAt(LocalDateTime.of(2026, 1, 1, 10, 0));
+        response.setTags(List.of(tagResponse("java", true), tagResponse("kafka", false), tagResponse("go", false)));
+
+        AlertMatcher matcher = AlertMatcher.compile(response);
+
+        assertThat(matcher.matches(VACANCY)).isTrue();
+        assertThat(matcher.getTagWords()).extracting(AlertMatcher.TagWords::required)
+                .containsExactly(true, false, false);
+        assertThat(matcher.isCompiledFrom(response)).isTrue();
+    }
+
+    private static JobAlert alert(Integer minimumMatchingTags, AlertTag... tags) {
+        JobAlert alert = new JobAlert();
+        alert.setId(1L);
+        alert.setTitle("Java");
+        alert.setMinimumMatchingTags(minimumMatchingTags);
+        alert.setAlertTags(new LinkedHashSet<>(List.of(tags)));
+        return alert;
+    }
+
+    private static AlertTag tag(String value, boolean required) {
+        AlertTag tag = new AlertTag();
+        tag.setTag(value);
+        tag.setIsRequired(required);
+        return tag;
+    }
+
+    private static JobAlertDTO.TagResponse tagResponse(String value, boolean required) {
+        JobAlertDTO.TagResponse tag = new JobAlertDTO.TagResponse();
+        tag.setTag(value);
+        tag.setIsRequired(required);
+        return tag;
+    }
+}
@@ -0,0 +1,170 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.entity.JobVacancy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AlertPercolatorTest {
+
+    @Mock
+    private JobAlertService jobAlertService;
+    @Mock
+    private PartitionLeaseService partitionLeaseService;
+
+    private AlertPercolator percolator;
+
+    @BeforeEach
+    void setUp() {
+        percolator = new AlertPercolator(jobAlertService, partitionLeaseService);
+        ReflectionTestUtils.setField(percolator, "enabled", true);
+        when(partitionLeaseService.getOwnedPartitions()).thenReturn(Set.of(0));
+        when(partitionLeaseService.ownsAlert(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void routesEachVacancyToEveryAlertItSatisfies() {
+        givenAlerts(
+                alert(1L, null, 1, "java", "kafka"),
+                alert(2L, null, 2, "java", "kafka"),
+                alert(3L, null, 1, "python"));
+        JobVacancy javaKafka = vacancy("Desenvolvedor Java com Kafka", "São Paulo, SP, BR");
+        JobVacancy java = vacancy("Desenvolvedor Java", "São Paulo, SP, BR");
+
+        Map<Long, List<JobVacancy>> matches = percolate(List.of(javaKafka, java), Set.of());
+
+        assertThat(matches).containsOnlyKeys(1L, 2L);
+        assertThat(matches.get(1L)).containsExactly(javaKafka, java);
+        assertThat(matches.get(2L)).containsExactly(javaKafka);
+    }
+
+    @Test
+    void requiresEveryRequiredTag() {
+        JobAlertDTO.JobAlertResponse alert = alert(1L, null, 1, "java", "aws");
+        alert.getTags().get(1).setIsRequired(true);
+        givenAlerts(alert);
+
+        Map<Long, List<JobVacancy>> matches = percolate(List.of(
+                vacancy("Desenvolvedor Java", "Remoto"),
+                vacancy("Desenvolvedor Java AWS", "Remoto")), Set.of());
+
+        assertThat(matches.get(1L)).extracting(JobVacancy::getTitle).containsExactly("Desenvolvedor Java AWS");
+    }
+
+    @Test
+    void matchesAlertLocationsOnWholeTerms() {
+        givenAlerts(
+                alert(1L, "SP", 1, "java"),
+                alert(2L, "sao paulo", 1, "java"),
+                alert(3L, null, 1, "java"));
+        JobVacancy saoPaulo = vacancy("Desenvolvedor Java", "São Paulo, SP, BR");
+        JobVacancy springfield = vacancy("Desenvolvedor Java", "Springfield, IL, US");
+
+        Map<Long, List<JobVacancy>> matches = percolate(List.of(saoPaulo, springfield), Set.of());
+
+        assertThat(matches.get(1L)).containsExactly(saoPaulo);
+        assertThat(matches.get(2L)).containsExactly(saoPaulo);
+        assertThat(matches.get(3L)).containsExactly(saoPaulo, springfield);
+    }
+
+    @Test
+    void skipsExcludedAlerts() {
+        givenAlerts(alert(1L, null, 1, "java"), alert(2L, null, 1, "java"));
+
+        Map<Long, List<JobVacancy>> matches = percolate(List.of(vacancy("Java", "Remoto")), Set.of(1L));
+
+        assertThat(matches).containsOnlyKeys(2L);
+    }
+
+    @Test
+    void findsTagsWhenTheIndexHasMoreTagsThanTheVacancyHasTerms() {
+        List<JobAlertDTO.JobAlertResponse> alerts = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            alerts.add(alert(id, null, 1, "tecnologia " + id));
+        }
+        alerts.add(alert(51L, null, 1, "go"));
+        givenAlerts(alerts.toArray(JobAlertDTO.JobAlertResponse[]::new));
+
+        Map<Long, List<JobVacancy>> matches = percolate(List.of(vacancy("Go tecnologia 7", "Remoto")), Set.of());
+
+        assertThat(matches).containsOnlyKeys(7L, 51L);
+    }
+
+    @Test
+    void indexesOnlyAlertsOfOwnedPartitions() {
+        when(partitionLeaseService.ownsAlert(2L)).thenReturn(false);
+        givenAlerts(alert(1L, null, 1, "java"), alert(2L, null, 1, "java"));
+
+        assertThat(percolator.getIndexedAlertCount()).isEqualTo(1);
+        assertThat(percolate(List.of(vacancy("Java", "Remoto")), Set.of())).containsOnlyKeys(1L);
+    }
+
+    @Test
+    void rebuildsOnlyWhenAlertsOrPartitionsChange() {
+        givenAlerts(alert(1L, null, 1, "java"));
+        percolator.refresh();
+        verify(jobAlertService, times(1)).getAllActiveAlerts();
+
+        percolator.onAlertChanged(new JobAlertChangedEvent(1L));
+        percolator.refresh();
+        verify(jobAlertService, times(2)).getAllActiveAlerts();
+
+        when(partitionLeaseService.getOwnedPartitions()).thenReturn(Set.of(0, 1));
+        percolator.refresh();
+        verify(jobAlertService, times(3)).getAllActiveAlerts();
+    }
+
+    private void givenAlerts(JobAlertDTO.JobAlertResponse... alerts) {
+        when(jobAlertService.getAllActiveAlerts()).thenReturn(List.of(alerts));
+        percolator.refresh();
+    }
+
+    private Map<Long, List<JobVacancy>> percolate(List<JobVacancy> vacancies, Set<Long> excludedAlertIds) {
+        return percolator.percolate(vacancies, excludedAlertIds).stream()
+                .collect(Collectors.toMap(match -> match.alert().getId(), AlertPercolator.Match::vacancies));
+    }
+
+    private static JobAlertDTO.JobAlertResponse alert(Long id, String location, int minimumTags, String... tags) {
+        JobAlertDTO.JobAlertResponse alert = new JobAlertDTO.JobAlertResponse();
+        alert.setId(id);
+        alert.setTitle("Alerta " + id);
+        alert.setLocation(location);
+        alert.setMinimumMatchingTags(minimumTags);
+        alert.setTags(Arrays.stream(tags).map(value -> {
+            JobAlertDTO.TagResponse tag = new JobAlertDTO.TagResponse();
+            tag.setTag(value);
+            tag.setIsRequired(false);
+            return tag;
+        }).collect(Collectors.toList()));
+        return alert;
+    }
+
+    private static JobVacancy vacancy(String title, String location) {
+        JobVacancy vacancy = new JobVacancy();
+        vacancy.setTitle(title);
+        vacancy.setCompany("Acme");
+        vacancy.setLocation(location);
+        return vacancy;
+    }
+}
@@ -0,0 +1,40 @@
+package com.jobsearch.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JSearchBulkheadTest {
+
+    private JSearchBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = new JSearchBulkhead();
+        ReflectionTestUtils.setField(bulkhead, "maxConcurrentCalls", 2);
+        bulkhead.init();
+    }
+
+    @Test
+    void rejectsCallsBeyondTheConcurrencyLimit() {
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.tryAcquire()).isTrue();
+
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        assertThat(bulkhead.getActiveCalls()).isEqualTo(2);
+        assertThat(bulkhead.getRejectedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void releasedPermitsAreAvailableAgain() {
+        bulkhead.tryAcquire();
+        bulkhead.tryAcquire();
+
+        bulkhead.release();
+
+        assertThat(bulkhead.getActiveCalls()).isEqualTo(1);
+        assertThat(bulkhead.tryAcquire()).isTrue();
+    }
+}
@@ -0,0 +1,137 @@
+package com.jobsearch.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JSearchCircuitBreakerTest {
+
+    private JSearchCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = circuitBreaker(30L, 2);
+    }
+
+    @Test
+    void staysClosedUntilTheMinimumNumberOfCalls() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(JSearchCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void opensWhenTheFailureRateReachesTheThresholdAndRejectsCalls() {
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.getState()).isEqualTo(JSearchCircuitBreaker.State.CLOSED);
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(JSearchCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(circuitBreaker.getRejectedCalls()).isEqualTo(1);
+        assertThat(circuitBreaker.getRetryDelay().toSeconds()).isBetween(29L, 30L);
+    }
+
+    @Test
+    void forgetsOutcomesThatLeftTheWindow() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onSuccess();
+        }
+
+        assertThat(circuitBreaker.getBufferedCalls()).isEqualTo(4);
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+    }
+
+    @Test
+    void closesAfterEnoughSuccessfulHalfOpenProbes() {
+        circuitBreaker = circuitBreaker(0L, 2);
+        open();
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(JSearchCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(JSearchCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getBufferedCalls()).isZero();
+    }
+
+    @Test
+    void reopensWhenAHalfOpenProbeFails() {
+        circuitBreaker = circuitBreaker(0L, 2);
+        open();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(JSearchCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void cancelledProbeFreesItsHalfOpenSlot() {
+        circuitBreaker = circuitBreaker(0L, 1);
+        open();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onCancelled();
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void successOfACallStartedBeforeHalfOpenDoesNotAddProbeSlots() {
+        circuitBreaker = circuitBreaker(0L, 3);
+        open();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.onCancelled();
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void alwaysPermitsCallsWhenDisabled() {
+        ReflectionTestUtils.setField(circuitBreaker, "enabled", false);
+        open();
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private static JSearchCircuitBreaker circuitBreaker(long openDurationSeconds, int halfOpenCalls) {
+        JSearchCircuitBreaker circuitBreaker = new JSearchCircuitBreaker();
+        ReflectionTestUtils.setField(circuitBreaker, "enabled", true);
+        ReflectionTestUtils.setField(circuitBreaker, "windowSize", 4);
+        ReflectionTestUtils.setField(circuitBreaker, "minimumCalls", 4);
+        ReflectionTestUtils.setField(circuitBreaker, "failureRateThreshold", 50.0);
+        ReflectionTestUtils.setField(circuitBreaker, "openDurationSeconds", openDurationSeconds);
+        ReflectionTestUtils.setField(circuitBreaker, "halfOpenCalls", halfOpenCalls);
+        circuitBreaker.init();
+        return circuitBreaker;
+    }
+}
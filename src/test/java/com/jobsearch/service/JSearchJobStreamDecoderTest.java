@@ -0,0 +1,122 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JSearchDTO;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JSearchJobStreamDecoderTest {
+
+    private static final String RESPONSE = """
+            {"status":"OK","request_id":"r-1","parameters":{"query":"java","page":1},
+             "data":[
+               {"job_id":"job-1","job_title":"Desenvolvedor Java Sênior","employer_name":"Acme",
+                "job_city":"São Paulo","job_state":"SP","job_country":"BR","job_is_remote":false,
+                "job_posted_at_timestamp":1760000000,"job_min_salary":1000.5,"job_max_salary":null,
+                "job_highlights":{"Qualifications":["java","{chaves}"]},
+                "job_extra":{"nested":[1,2,{"job_id":"falso","job_title":"ignorado"}]},
+                "job_description":"Spring Boot e microsserviços"},
+               {"job_id":"job-2","job_title":"Engenheiro de Dados","employer_logo":null}
+             ],
+             "trailer":{"data":[{"job_id":"fora-do-data"}]}}
+            """;
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+    private final JSearchJobStreamDecoder decoder = new JSearchJobStreamDecoder();
+
+    @Test
+    void decodesOnlyTopLevelJobsAndTheirSelectedFields() {
+        List<JSearchDTO.JobData> jobs = decode(chunks(RESPONSE, RESPONSE.length()));
+
+        assertThat(jobs).extracting(JSearchDTO.JobData::getJobId).containsExactly("job-1", "job-2");
+        JSearchDTO.JobData first = jobs.get(0);
+        assertThat(first.getJobTitle()).isEqualTo("Desenvolvedor Java Sênior");
+        assertThat(first.getEmployerName()).isEqualTo("Acme");
+        assertThat(first.getJobCity()).isEqualTo("São Paulo");
+        assertThat(first.getJobPostedAtTimestamp()).isEqualTo(1760000000L);
+        assertThat(first.getJobMinSalary()).isEqualTo(1000.5);
+        assertThat(first.getJobMaxSalary()).isNull();
+        assertThat(first.getJobDescription()).isEqualTo("Spring Boot e microsserviços");
+    }
+
+    @Test
+    void decodesTheSameJobsWhateverTheChunkBoundaries() {
+        List<JSearchDTO.JobData> whole = decode(chunks(RESPONSE, RESPONSE.length()));
+
+        for (int chunkSize : new int[]{1, 3, 7, 64}) {
+            List<JSearchDTO.JobData> chunked = decode(chunks(RESPONSE, chunkSize));
+            assertThat(chunked).as("chunks de %d bytes", chunkSize).isEqualTo(whole);
+        }
+    }
+
+    @Test
+    void emitsJobsBeforeTheResponseEnds() {
+        String firstJobOnly = RESPONSE.substring(0, RESPONSE.indexOf("{\"job_id\":\"job-2\""));
+
+        JSearchDTO.JobData first = decoder.decode(Flux.concat(
+                        Flux.just(buffer(firstJobOnly.getBytes(StandardCharsets.UTF_8))),
+                        Flux.never()))
+                .blockFirst(Duration.ofSeconds(5));
+
+        assertThat(first.getJobId()).isEqualTo("job-1");
+    }
+
+    @Test
+    void failsOnMalformedJson() {
+        assertThatThrownBy(() -> decode(chunks("{\"data\":[{\"job_id\":}]}", 4)))
+                .hasMessageContaining("JSearch");
+    }
+
+    @Test
+    void releasesEveryReceivedBufferWhenTheConsumerCancels() {
+        List<NettyDataBuffer> received = new CopyOnWriteArrayList<>();
+        Flux<DataBuffer> body = Flux.fromIterable(chunks(RESPONSE, 16))
+                .doOnNext(buffer -> received.add((NettyDataBuffer) buffer));
+
+        List<JSearchDTO.JobData> first = decoder.decode(body).take(1).collectList().block(Duration.ofSeconds(5));
+
+        assertThat(first).extracting(JSearchDTO.JobData::getJobId).containsExactly("job-1");
+        assertThat(received).isNotEmpty()
+                .allSatisfy(buffer -> assertThat(buffer.getNativeBuffer().refCnt()).isZero());
+    }
+
+    @Test
+    void releasesBuffersAfterACompleteDecode() {
+        List<DataBuffer> buffers = chunks(RESPONSE, 32);
+
+        decode(buffers);
+
+        assertThat(buffers).allSatisfy(buffer ->
+                assertThat(((NettyDataBuffer) buffer).getNativeBuffer().refCnt()).isZero());
+    }
+
+    private List<JSearchDTO.JobData> decode(List<DataBuffer> buffers) {
+        return decoder.decode(Flux.fromIterable(buffers)).collectList().block(Duration.ofSeconds(5));
+    }
+
+    private List<DataBuffer> chunks(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            buffers.add(buffer(Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + chunkSize))));
+        }
+        return buffers;
+    }
+
+    private DataBuffer buffer(byte[] bytes) {
+        return bufferFactory.wrap(bytes);
+    }
+}
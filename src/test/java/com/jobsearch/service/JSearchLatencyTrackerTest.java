@@ -0,0 +1,62 @@
+package com.jobsearch.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JSearchLatencyTrackerTest {
+
+    private JSearchLatencyTracker latencyTracker;
+
+    @BeforeEach
+    void setUp() {
+        latencyTracker = new JSearchLatencyTracker();
+        ReflectionTestUtils.setField(latencyTracker, "minSamples", 10);
+        ReflectionTestUtils.setField(latencyTracker, "minHedgeDelayMillis", 50L);
+    }
+
+    @Test
+    void doesNotHedgeWithoutEnoughSamples() {
+        record(9, 100);
+
+        assertThat(latencyTracker.percentileMillis(0.95)).isEqualTo(-1);
+        assertThat(latencyTracker.getHedgeDelay()).isEmpty();
+    }
+
+    @Test
+    void hedgesAtThe95thPercentileLatency() {
+        for (int millis = 1; millis <= 100; millis++) {
+            record(1, millis);
+        }
+
+        assertThat(latencyTracker.percentileMillis(0.50)).isEqualTo(50);
+        assertThat(latencyTracker.percentileMillis(0.95)).isEqualTo(95);
+        assertThat(latencyTracker.getHedgeDelay()).contains(Duration.ofMillis(95));
+    }
+
+    @Test
+    void neverHedgesSoonerThanTheMinimumDelay() {
+        record(20, 5);
+
+        assertThat(latencyTracker.getHedgeDelay()).contains(Duration.ofMillis(50));
+    }
+
+    @Test
+    void keepsOnlyTheMostRecentSamples() {
+        record(200, 1000);
+        record(200, 10);
+
+        assertThat(latencyTracker.percentileMillis(0.95)).isEqualTo(10);
+    }
+
+    private void record(int times, long millis) {
+        for (int i = 0; i < times; i++) {
+            latencyTracker.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.jobsearch.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JSearchQueryKeyTest {
+
+    @Test
+    void normalizesCaseAndWhitespace() {
+        JSearchQueryKey key = JSearchQueryKey.of("  Java   Developer ", "São  Paulo", null);
+
+        assertThat(key).isEqualTo(JSearchQueryKey.of("java developer", "são paulo", null));
+        assertThat(key.toString()).isEqualTo("java developer in são paulo");
+    }
+
+    @Test
+    void treatsBlankValuesAsMissing() {
+        JSearchQueryKey key = JSearchQueryKey.of("java", "  ", "");
+
+        assertThat(key.location()).isNull();
+        assertThat(key.employmentType()).isNull();
+        assertThat(key.toString()).isEqualTo("java");
+    }
+
+    @Test
+    void keepsEmploymentTypeInTheKey() {
+        assertThat(JSearchQueryKey.of("java", "sp", "FULLTIME"))
+                .isNotEqualTo(JSearchQueryKey.of("java", "sp", null));
+    }
+}
@@ -0,0 +1,100 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JSearchDTO;
+import com.jobsearch.repository.ApiQuotaUsageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JSearchQuotaServiceTest {
+
+    @Autowired
+    private ApiQuotaUsageRepository quotaUsageRepository;
+
+    @AfterEach
+    void tearDown() {
+        quotaUsageRepository.deleteAll();
+    }
+
+    @Test
+    void isDisabledWithoutAMonthlyLimit() {
+        JSearchQuotaService quotaService = quotaService(0);
+        quotaService.recordCalls(1_000_000);
+
+        assertThat(quotaService.isEnabled()).isFalse();
+        assertThat(quotaService.isExhausted()).isFalse();
+        assertThat(quotaService.getIntervalMultiplier()).isEqualTo(1);
+        assertThat(quotaService.shouldSkipSingleAlertSearches()).isFalse();
+    }
+
+    @Test
+    void sharesTheMonthlyCounterBetweenNodes() {
+        JSearchQuotaService nodeA = quotaService(100_000);
+        JSearchQuotaService nodeB = quotaService(100_000);
+
+        nodeA.recordCalls(3);
+        nodeA.flush();
+        nodeB.recordCalls(2);
+        nodeB.flush();
+        nodeA.flush();
+
+        assertThat(nodeA.getStatus().getUsedCalls()).isEqualTo(5);
+        assertThat(nodeB.getStatus().getUsedCalls()).isEqualTo(5);
+        assertThat(quotaService(100_000).getStatus().getUsedCalls()).isEqualTo(5);
+    }
+
+    @Test
+    void countsCallsNotYetFlushed() {
+        JSearchQuotaService quotaService = quotaService(100_000);
+        quotaService.recordCalls(4);
+
+        JSearchDTO.QuotaStatus status = quotaService.getStatus();
+
+        assertThat(status.getUsedCalls()).isEqualTo(4);
+        assertThat(status.getReservedCalls()).isEqualTo(5_000);
+        assertThat(status.getRemainingCalls()).isEqualTo(100_000 - 5_000 - 4);
+    }
+
+    @Test
+    void keepsTheNormalIntervalWhileTheBudgetLasts() {
+        JSearchQuotaService quotaService = quotaService(1_000_000_000L);
+        quotaService.recordCalls(1);
+
+        assertThat(quotaService.getIntervalMultiplier()).isEqualTo(1);
+        assertThat(quotaService.shouldSkipSingleAlertSearches()).isFalse();
+        assertThat(quotaService.getSkipDelay()).isEqualTo(Duration.ofMinutes(60));
+    }
+
+    @Test
+    void backsOffToTheMaximumAndSkipsSingleSearchesOnceOnlyTheReserveIsLeft() {
+        JSearchQuotaService quotaService = quotaService(100);
+        quotaService.recordCalls(95);
+        quotaService.flush();
+
+        assertThat(quotaService.isExhausted()).isTrue();
+        assertThat(quotaService.getIntervalMultiplier()).isEqualTo(8);
+        assertThat(quotaService.shouldSkipSingleAlertSearches()).isTrue();
+        assertThat(quotaService.getSkipDelay()).isEqualTo(Duration.ofMinutes(480));
+        assertThat(quotaService.getStatus().getRemainingCalls()).isZero();
+    }
+
+    private JSearchQuotaService quotaService(long monthlyLimit) {
+        JSearchQuotaService quotaService = new JSearchQuotaService(quotaUsageRepository);
+        ReflectionTestUtils.setField(quotaService, "monthlyLimit", monthlyLimit);
+        ReflectionTestUtils.setField(quotaService, "reservePercent", 5.0);
+        ReflectionTestUtils.setField(quotaService, "maxIntervalMultiplier", 8.0);
+        ReflectionTestUtils.setField(quotaService, "defaultPollingIntervalMinutes", 60);
+        quotaService.init();
+        return quotaService;
+    }
+}
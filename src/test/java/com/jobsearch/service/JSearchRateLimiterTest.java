@@ -0,0 +1,74 @@
+package com.jobsearch.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JSearchRateLimiterTest {
+
+    private JSearchRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new JSearchRateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "configuredRate", 1.0);
+        ReflectionTestUtils.setField(rateLimiter, "burst", 3);
+        ReflectionTestUtils.setField(rateLimiter, "minRate", 0.2);
+        ReflectionTestUtils.setField(rateLimiter, "recoveryFactor", 0.25);
+        rateLimiter.init();
+    }
+
+    @Test
+    void allowsABurstWithoutWaiting() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.reserve()).isZero();
+        }
+    }
+
+    @Test
+    void spacesRequestsBeyondTheBurstAtTheConfiguredRate() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.reserve();
+        }
+
+        long firstWait = rateLimiter.reserve();
+        long secondWait = rateLimiter.reserve();
+
+        assertThat(firstWait).isBetween(TimeUnit.MILLISECONDS.toNanos(900), TimeUnit.SECONDS.toNanos(1));
+        assertThat(secondWait).isBetween(TimeUnit.MILLISECONDS.toNanos(1900), TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    void halvesTheRateDownToTheMinimumWhenRateLimited() {
+        rateLimiter.onRateLimited(Duration.ZERO);
+        assertThat(rateLimiter.getCurrentRate()).isEqualTo(0.5);
+
+        rateLimiter.onRateLimited(Duration.ZERO);
+        rateLimiter.onRateLimited(Duration.ZERO);
+        assertThat(rateLimiter.getCurrentRate()).isEqualTo(0.2);
+    }
+
+    @Test
+    void pausesForTheRetryAfterDelay() {
+        rateLimiter.onRateLimited(Duration.ofSeconds(30));
+
+        assertThat(rateLimiter.reserve()).isGreaterThan(TimeUnit.SECONDS.toNanos(29));
+    }
+
+    @Test
+    void recoversGraduallyUpToTheConfiguredRate() {
+        rateLimiter.onRateLimited(Duration.ZERO);
+
+        rateLimiter.onSuccess();
+        assertThat(rateLimiter.getCurrentRate()).isEqualTo(0.75);
+
+        rateLimiter.onSuccess();
+        rateLimiter.onSuccess();
+        assertThat(rateLimiter.getCurrentRate()).isEqualTo(1.0);
+    }
+}
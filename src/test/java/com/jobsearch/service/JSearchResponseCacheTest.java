@@ -0,0 +1,135 @@
+package com.jobsearch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobsearch.dto.JSearchDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JSearchResponseCacheTest {
+
+    private JSearchResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JSearchResponseCache(new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        ReflectionTestUtils.setField(cache, "maxBytes", 1_000_000L);
+    }
+
+    @Test
+    void returnsCachedResponsesForEquivalentSearches() {
+        cache.put(JSearchResponseCache.Key.of("Java", "São Paulo", null, 1), response("job-1"));
+
+        assertThat(cache.get(JSearchResponseCache.Key.of("  java ", "são paulo", null, null)))
+                .hasValueSatisfying(cached -> assertThat(jobIds(cached)).containsExactly("job-1"));
+        assertThat(cache.get(JSearchResponseCache.Key.of("java", "São Paulo", null, 2))).isEmpty();
+
+        JSearchDTO.CacheStats stats = cache.getStats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void expiresEntriesAfterTheTtl() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        JSearchResponseCache.Key key = JSearchResponseCache.Key.of("java", null, null, 1);
+        cache.put(key, response("job-1"));
+
+        assertThat(cache.get(key)).isEmpty();
+        assertThat(cache.getStats().getExpirations()).isEqualTo(1);
+        assertThat(cache.getStats().getEntries()).isZero();
+        assertThat(cache.getStats().getSizeBytes()).isZero();
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntry() {
+        JSearchResponseCache.Key java = JSearchResponseCache.Key.of("java", null, null, 1);
+        JSearchResponseCache.Key python = JSearchResponseCache.Key.of("python", null, null, 1);
+        JSearchResponseCache.Key go = JSearchResponseCache.Key.of("go", null, null, 1);
+        cache.put(java, response("job-1"));
+        cache.put(python, response("job-2"));
+        cache.get(java);
+
+        cache.put(go, response("job-3"));
+
+        assertThat(cache.get(java)).isPresent();
+        assertThat(cache.get(python)).isEmpty();
+        assertThat(cache.get(go)).isPresent();
+        assertThat(cache.getStats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsTheTotalSizeWithinTheByteLimit() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        JSearchResponseCache.Key first = JSearchResponseCache.Key.of("java", null, null, 1);
+        cache.put(first, response("job-1"));
+        long entryBytes = cache.getStats().getSizeBytes();
+        ReflectionTestUtils.setField(cache, "maxBytes", entryBytes * 2 + entryBytes / 2);
+
+        cache.put(JSearchResponseCache.Key.of("java", null, null, 2), response("job-2"));
+        cache.put(JSearchResponseCache.Key.of("java", null, null, 3), response("job-3"));
+
+        assertThat(cache.getStats().getEntries()).isEqualTo(2);
+        assertThat(cache.getStats().getSizeBytes()).isLessThanOrEqualTo(entryBytes * 2 + entryBytes / 2);
+        assertThat(cache.get(first)).isEmpty();
+    }
+
+    @Test
+    void skipsResponsesLargerThanTheWholeCache() {
+        ReflectionTestUtils.setField(cache, "maxBytes", 10L);
+        JSearchResponseCache.Key key = JSearchResponseCache.Key.of("java", null, null, 1);
+
+        cache.put(key, response("job-1"));
+
+        assertThat(cache.get(key)).isEmpty();
+        assertThat(cache.getStats().getSizeBytes()).isZero();
+    }
+
+    @Test
+    void isolatesCallersFromEachOthersChanges() {
+        JSearchResponseCache.Key key = JSearchResponseCache.Key.of("java", null, null, 1);
+        JSearchDTO.JobSearchResponse original = response("job-1");
+        cache.put(key, original);
+        original.getData().clear();
+
+        JSearchDTO.JobSearchResponse first = cache.get(key).orElseThrow();
+        first.getData().get(0).setJobTitle("alterado");
+
+        JSearchDTO.JobSearchResponse second = cache.get(key).orElseThrow();
+        assertThat(jobIds(second)).containsExactly("job-1");
+        assertThat(second.getData().get(0).getJobTitle()).isEqualTo("Desenvolvedor Java");
+    }
+
+    @Test
+    void doesNothingWhenDisabled() {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+        JSearchResponseCache.Key key = JSearchResponseCache.Key.of("java", null, null, 1);
+
+        cache.put(key, response("job-1"));
+
+        assertThat(cache.get(key)).isEmpty();
+        assertThat(cache.getStats().getEntries()).isZero();
+    }
+
+    private static JSearchDTO.JobSearchResponse response(String jobId) {
+        JSearchDTO.JobData job = new JSearchDTO.JobData();
+        job.setJobId(jobId);
+        job.setJobTitle("Desenvolvedor Java");
+        JSearchDTO.JobSearchResponse response = new JSearchDTO.JobSearchResponse();
+        response.setStatus("OK");
+        response.setData(new ArrayList<>(List.of(job)));
+        return response;
+    }
+
+    private static List<String> jobIds(JSearchDTO.JobSearchResponse response) {
+        return response.getData().stream().map(JSearchDTO.JobData::getJobId).toList();
+    }
+}
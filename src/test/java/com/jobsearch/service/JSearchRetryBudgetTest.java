@@ -0,0 +1,65 @@
+package com.jobsearch.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class JSearchRetryBudgetTest {
+
+    private JSearchRetryBudget retryBudget;
+
+    @BeforeEach
+    void setUp() {
+        retryBudget = new JSearchRetryBudget();
+        ReflectionTestUtils.setField(retryBudget, "budgetRatio", 0.5);
+        ReflectionTestUtils.setField(retryBudget, "minRetriesPerSecond", 0.0);
+        ReflectionTestUtils.setField(retryBudget, "maxTokens", 2.0);
+        retryBudget.init();
+    }
+
+    @Test
+    void grantsRetriesUntilTheBudgetIsSpent() {
+        assertThat(retryBudget.tryAcquire()).isTrue();
+        assertThat(retryBudget.tryAcquire()).isTrue();
+
+        assertThat(retryBudget.tryAcquire()).isFalse();
+        assertThat(retryBudget.getRetriesGranted()).isEqualTo(2);
+        assertThat(retryBudget.getRetriesDenied()).isEqualTo(1);
+    }
+
+    @Test
+    void earnsRetriesAsAFractionOfRequests() {
+        retryBudget.tryAcquire();
+        retryBudget.tryAcquire();
+
+        retryBudget.onRequest();
+        assertThat(retryBudget.tryAcquire()).isFalse();
+
+        retryBudget.onRequest();
+        assertThat(retryBudget.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void neverAccumulatesMoreThanTheMaximum() {
+        for (int i = 0; i < 10; i++) {
+            retryBudget.onRequest();
+        }
+
+        assertThat(retryBudget.getAvailableTokens()).isEqualTo(2.0);
+    }
+
+    @Test
+    void refillsAtTheMinimumRateWithoutTraffic() throws InterruptedException {
+        ReflectionTestUtils.setField(retryBudget, "minRetriesPerSecond", 20.0);
+        retryBudget.tryAcquire();
+        retryBudget.tryAcquire();
+
+        Thread.sleep(100);
+
+        assertThat(retryBudget.getAvailableTokens()).isCloseTo(2.0, within(0.5));
+        assertThat(retryBudget.tryAcquire()).isTrue();
+    }
+}
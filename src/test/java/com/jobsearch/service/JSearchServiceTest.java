@@ -0,0 +1,282 @@
+package com.jobsearch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobsearch.dto.JSearchDTO;
+import com.jobsearch.exception.JSearchApiException;
+import com.jobsearch.exception.JSearchUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+class JSearchServiceTest {
+
+    private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+    private Function<ClientRequest, Mono<ClientResponse>> responder;
+
+    private JSearchRateLimiter rateLimiter;
+    private JSearchResponseCache responseCache;
+    private JSearchCircuitBreaker circuitBreaker;
+    private JSearchBulkhead bulkhead;
+    private JSearchRetryBudget retryBudget;
+    private JSearchLatencyTracker latencyTracker;
+    private JSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        responder = request -> Mono.just(ok(jobsJson("job-1", "job-2")));
+
+        rateLimiter = new JSearchRateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "configuredRate", 1000.0);
+        ReflectionTestUtils.setField(rateLimiter, "burst", 1000);
+        ReflectionTestUtils.setField(rateLimiter, "minRate", 1.0);
+        ReflectionTestUtils.setField(rateLimiter, "recoveryFactor", 0.05);
+        rateLimiter.init();
+
+        responseCache = new JSearchResponseCache(new ObjectMapper());
+        ReflectionTestUtils.setField(responseCache, "enabled", true);
+        ReflectionTestUtils.setField(responseCache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(responseCache, "maxEntries", 100);
+        ReflectionTestUtils.setField(responseCache, "maxBytes", 1_000_000L);
+
+        circuitBreaker = new JSearchCircuitBreaker();
+        ReflectionTestUtils.setField(circuitBreaker, "enabled", true);
+        ReflectionTestUtils.setField(circuitBreaker, "windowSize", 4);
+        ReflectionTestUtils.setField(circuitBreaker, "minimumCalls", 4);
+        ReflectionTestUtils.setField(circuitBreaker, "failureRateThreshold", 50.0);
+        ReflectionTestUtils.setField(circuitBreaker, "openDurationSeconds", 30L);
+        ReflectionTestUtils.setField(circuitBreaker, "halfOpenCalls", 1);
+        circuitBreaker.init();
+
+        bulkhead = new JSearchBulkhead();
+        ReflectionTestUtils.setField(bulkhead, "maxConcurrentCalls", 10);
+        bulkhead.init();
+
+        retryBudget = new JSearchRetryBudget();
+        ReflectionTestUtils.setField(retryBudget, "budgetRatio", 0.1);
+        ReflectionTestUtils.setField(retryBudget, "minRetriesPerSecond", 0.0);
+        ReflectionTestUtils.setField(retryBudget, "maxTokens", 10.0);
+        retryBudget.init();
+
+        latencyTracker = new JSearchLatencyTracker();
+        ReflectionTestUtils.setField(latencyTracker, "minSamples", 5);
+        ReflectionTestUtils.setField(latencyTracker, "minHedgeDelayMillis", 50L);
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return responder.apply(request);
+                })
+                .build();
+
+        service = new JSearchService(webClient, rateLimiter, responseCache, new JSearchJobStreamDecoder(),
+                circuitBreaker, bulkhead, retryBudget, latencyTracker, mock(JSearchQuotaService.class));
+        ReflectionTestUtils.setField(service, "apiUrl", "http://jsearch.test");
+        ReflectionTestUtils.setField(service, "apiKey", "chave");
+        ReflectionTestUtils.setField(service, "apiHost", "jsearch.test");
+        ReflectionTestUtils.setField(service, "maxRetryAttempts", 2);
+        ReflectionTestUtils.setField(service, "initialBackoffMillis", 1L);
+        ReflectionTestUtils.setField(service, "maxBackoffMillis", 5L);
+        ReflectionTestUtils.setField(service, "retryJitter", 0.0);
+    }
+
+    @Test
+    void reactiveSearchIsLazyAndSendsTheRapidApiRequest() {
+        Mono<JSearchDTO.JobSearchResponse> search = service.searchJobsReactive("java", "São Paulo", 2);
+
+        assertThat(requests).isEmpty();
+
+        JSearchDTO.JobSearchResponse response = search.block(Duration.ofSeconds(5));
+
+        assertThat(response.getData()).extracting(JSearchDTO.JobData::getJobId).containsExactly("job-1", "job-2");
+        assertThat(requests).hasSize(1);
+        ClientRequest request = requests.get(0);
+        assertThat(request.headers().getFirst("X-RapidAPI-Key")).isEqualTo("chave");
+        assertThat(request.headers().getFirst("X-RapidAPI-Host")).isEqualTo("jsearch.test");
+        assertThat(request.url().getPath()).isEqualTo("/search");
+        assertThat(request.url().getQuery()).contains("query=java in São Paulo", "page=2", "num_pages=1");
+    }
+
+    @Test
+    void rejectsBlankQueriesWithoutCallingTheApi() {
+        assertThatThrownBy(() -> service.searchJobsReactive("  ", null, 1).block())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(requests).isEmpty();
+    }
+
+    @Test
+    void mapsClientErrorsToApiExceptionsWithoutRetrying() {
+        responder = request -> Mono.just(ClientResponse.create(HttpStatus.UNAUTHORIZED).build());
+
+        assertThatThrownBy(() -> service.searchJobsReactive("java", null, 1).block(Duration.ofSeconds(5)))
+                .isInstanceOf(JSearchApiException.class)
+                .hasMessageContaining("autorização");
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void servesRepeatedSearchesFromTheResponseCache() {
+        service.searchJobsReactive("java", "São Paulo", 1).block(Duration.ofSeconds(5));
+
+        JSearchDTO.JobSearchResponse cached = service.searchJobsReactive("Java", "são paulo", 1)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(cached.getData()).extracting(JSearchDTO.JobData::getJobId).containsExactly("job-1", "job-2");
+        assertThat(requests).hasSize(1);
+        assertThat(service.getCacheStats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void coalescesConcurrentIdenticalSearchesIntoOneRequest() {
+        responder = request -> Mono.delay(Duration.ofMillis(200)).map(tick -> ok(jobsJson("job-1")));
+
+        List<JSearchDTO.JobSearchResponse> responses = Flux.range(0, 5)
+                .flatMap(i -> service.searchJobsReactive("java", "São Paulo", 1))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(responses).hasSize(5)
+                .allSatisfy(response -> assertThat(response.getData()).hasSize(1));
+        assertThat(requests).hasSize(1);
+        JSearchDTO.CacheStats stats = service.getCacheStats();
+        assertThat(stats.getCoalescedRequests()).isEqualTo(4);
+        assertThat(stats.getInFlightRequests()).isZero();
+    }
+
+    @Test
+    void sharesAFailureWithWaitingCallersAndRetriesOnTheNextSearch() {
+        responder = request -> Mono.delay(Duration.ofMillis(200))
+                .map(tick -> ClientResponse.create(HttpStatus.UNAUTHORIZED).build());
+
+        List<Throwable> errors = Flux.range(0, 3)
+                .flatMap(i -> service.searchJobsReactive("java", null, 1)
+                        .then(Mono.<Throwable>empty())
+                        .onErrorResume(Mono::just))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(errors).hasSize(3).allMatch(error -> error instanceof JSearchApiException);
+        assertThat(requests).hasSize(1);
+
+        responder = request -> Mono.just(ok(jobsJson("job-1")));
+        assertThat(service.searchJobsReactive("java", null, 1).block(Duration.ofSeconds(5)).getData()).hasSize(1);
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void openCircuitRejectsSearchesWithoutCallingTheApi() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+
+        assertThatThrownBy(() -> service.searchJobsReactive("java", null, 1).block(Duration.ofSeconds(5)))
+                .isInstanceOf(JSearchUnavailableException.class)
+                .hasMessageContaining("Circuito aberto");
+        assertThat(requests).isEmpty();
+        assertThat(bulkhead.getActiveCalls()).isZero();
+    }
+
+    @Test
+    void serverErrorsCountTowardTheCircuitAndReleaseTheBulkhead() {
+        responder = request -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+
+        assertThatThrownBy(() -> service.searchJobsReactive("java", null, 1).block(Duration.ofSeconds(5)))
+                .isInstanceOf(JSearchApiException.class);
+
+        assertThat(circuitBreaker.getFailedCalls()).isPositive();
+        assertThat(bulkhead.getActiveCalls()).isZero();
+    }
+
+    @Test
+    void retriesTransientServerErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+        responder = request -> attempts.incrementAndGet() < 3
+                ? Mono.just(ClientResponse.create(HttpStatus.BAD_GATEWAY).build())
+                : Mono.just(ok(jobsJson("job-1")));
+
+        JSearchDTO.JobSearchResponse response = service.searchJobsReactive("java", null, 1)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(response.getData()).hasSize(1);
+        assertThat(requests).hasSize(3);
+        assertThat(service.getResilienceStats().getRetriedRequests()).isEqualTo(2);
+    }
+
+    @Test
+    void countsALogicalCallOnceTowardTheRetryBudget() {
+        ReflectionTestUtils.setField(retryBudget, "tokens", 2.0);
+        responder = request -> Mono.just(ClientResponse.create(HttpStatus.BAD_GATEWAY).build());
+
+        assertThatThrownBy(() -> service.searchJobsReactive("java", null, 1).block(Duration.ofSeconds(5)))
+                .isInstanceOf(JSearchApiException.class);
+
+        assertThat(requests).hasSize(3);
+        assertThat(retryBudget.getAvailableTokens()).isCloseTo(0.1, within(0.001));
+    }
+
+    @Test
+    void stopsRetryingWhenTheBudgetIsExhausted() {
+        ReflectionTestUtils.setField(retryBudget, "tokens", 0.0);
+        responder = request -> Mono.just(ClientResponse.create(HttpStatus.BAD_GATEWAY).build());
+
+        assertThatThrownBy(() -> service.searchJobsReactive("java", null, 1).block(Duration.ofSeconds(5)))
+                .isInstanceOf(JSearchApiException.class);
+
+        assertThat(requests).hasSize(1);
+        assertThat(service.getResilienceStats().getRetriesDeniedByBudget()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgesASlowRequestAfterTheObservedLatency() {
+        ReflectionTestUtils.setField(service, "hedgingEnabled", true);
+        for (int i = 0; i < 5; i++) {
+            latencyTracker.record(Duration.ofMillis(10).toNanos());
+        }
+        AtomicInteger attempts = new AtomicInteger();
+        responder = request -> attempts.incrementAndGet() == 1
+                ? Mono.never()
+                : Mono.just(ok(jobsJson("job-1")));
+
+        JSearchDTO.JobSearchResponse response = service.searchJobsReactive("java", null, 1)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(response.getData()).hasSize(1);
+        assertThat(requests).hasSize(2);
+        assertThat(service.getResilienceStats().getHedgedRequests()).isEqualTo(1);
+    }
+
+    private static ClientResponse ok(String json) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .body(json)
+                .build();
+    }
+
+    private static String jobsJson(String... jobIds) {
+        StringBuilder data = new StringBuilder();
+        for (String jobId : jobIds) {
+            if (data.length() > 0) {
+                data.append(',');
+            }
+            data.append("{\"job_id\":\"").append(jobId).append("\",\"job_title\":\"Desenvolvedor Java\"}");
+        }
+        return "{\"status\":\"OK\",\"data\":[" + data + "]}";
+    }
+}
@@ -0,0 +1,109 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.entity.JobAlert;
+import com.jobsearch.repository.AlertTagRepository;
+import com.jobsearch.repository.JobAlertRepository;
+import com.jobsearch.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobAlertServiceTest {
+
+    @Mock
+    private JobAlertRepository jobAlertRepository;
+    @Mock
+    private AlertTagRepository alertTagRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private JSearchQuotaService quotaService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private JobAlertService jobAlertService;
+    private JobAlert alert;
+
+    @BeforeEach
+    void setUp() {
+        jobAlertService = new JobAlertService(jobAlertRepository, alertTagRepository, userRepository, quotaService,
+                eventPublisher);
+        ReflectionTestUtils.setField(jobAlertService, "defaultPollingIntervalMinutes", 60);
+        alert = new JobAlert();
+        alert.setId(1L);
+        when(jobAlertRepository.findById(1L)).thenReturn(Optional.of(alert));
+    }
+
+    @Test
+    void schedulesTheNextRunAfterTheAlertPollingInterval() {
+        alert.setPollingIntervalMinutes(15);
+        when(quotaService.getIntervalMultiplier()).thenReturn(1.0);
+
+        jobAlertService.updateLastChecked(1L);
+
+        assertThat(alert.getNextRunAt()).isCloseTo(alert.getLastChecked().plusMinutes(15), within(1, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void fallsBackToTheDefaultIntervalAndStretchesItWithTheQuotaMultiplier() {
+        when(quotaService.getIntervalMultiplier()).thenReturn(2.0);
+
+        jobAlertService.updateLastChecked(1L);
+
+        assertThat(alert.getNextRunAt()).isCloseTo(alert.getLastChecked().plusMinutes(120), within(1, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void defersTheNextRunWithoutMarkingTheAlertChecked() {
+        jobAlertService.deferAlert(1L, Duration.ofMinutes(5));
+
+        assertThat(alert.getLastChecked()).isNull();
+        assertThat(alert.getNextRunAt()).isCloseTo(LocalDateTime.now().plusMinutes(5), within(2, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void updatingAnAlertBumpsItsVersionAndAnnouncesTheChange() {
+        LocalDateTime previous = LocalDateTime.now().minusDays(1);
+        alert.setUpdatedAt(previous);
+        when(jobAlertRepository.save(alert)).thenReturn(alert);
+        JobAlertDTO.TagRequest tag = new JobAlertDTO.TagRequest();
+        tag.setTag(" Kotlin ");
+        tag.setIsRequired(true);
+        JobAlertDTO.CreateJobAlertRequest request = new JobAlertDTO.CreateJobAlertRequest();
+        request.setTitle("Kotlin");
+        request.setSearchQuery("kotlin");
+        request.setLocation("São Paulo");
+        request.setTags(List.of(tag));
+
+        JobAlertDTO.JobAlertResponse response = jobAlertService.updateJobAlert(1L, request);
+
+        assertThat(alert.getUpdatedAt()).isAfter(previous);
+        assertThat(response.getTags()).extracting(JobAlertDTO.TagResponse::getTag).containsExactly("kotlin");
+        verify(eventPublisher).publishEvent(new JobAlertChangedEvent(1L));
+    }
+
+    @Test
+    void deactivatingAnAlertAnnouncesTheChange() {
+        jobAlertService.deactivateJobAlert(1L);
+
+        assertThat(alert.getIsActive()).isFalse();
+        verify(eventPublisher).publishEvent(new JobAlertChangedEvent(1L));
+    }
+}
@@ -0,0 +1,168 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JSearchDTO;
+import com.jobsearch.entity.AlertTag;
+import com.jobsearch.entity.JobAlert;
+import com.jobsearch.entity.JobVacancy;
+import com.jobsearch.repository.JobVacancyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobMatchingServiceTest {
+
+    @Mock
+    private JobVacancyRepository jobVacancyRepository;
+    @Mock
+    private ParallelJobMatcher parallelJobMatcher;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private JobMatchingService jobMatchingService;
+
+    @BeforeEach
+    void setUp() {
+        jobMatchingService = new JobMatchingService(jobVacancyRepository, parallelJobMatcher, eventPublisher);
+    }
+
+    @Test
+    void matchesVacanciesAgainstTheAlertTags() {
+        JobVacancy java = vacancy("Desenvolvedor Java", "Spring Boot e Kafka");
+        JobVacancy python = vacancy("Desenvolvedor Python", "Django e Kafka");
+        JobVacancy frontend = vacancy("Desenvolvedor Frontend", "React");
+
+        List<JobVacancy> matched = jobMatchingService.matchJobs(List.of(java, python, frontend),
+                alert(1, tag("java", false), tag("kafka", false)));
+
+        assertThat(matched).containsExactly(java, python);
+    }
+
+    @Test
+    void appliesRequiredTagsAndTheMinimumTogether() {
+        JobVacancy java = vacancy("Desenvolvedor Java", "Spring Boot e Kafka");
+        JobVacancy javaWithoutKafka = vacancy("Desenvolvedor Java", "Spring Boot");
+        JobVacancy python = vacancy("Desenvolvedor Python", "Django e Kafka");
+
+        List<JobVacancy> matched = jobMatchingService.matchJobs(List.of(java, javaWithoutKafka, python),
+                alert(2, tag("java", true), tag("kafka", false), tag("spring boot", false)));
+
+        assertThat(matched).containsExactly(java, javaWithoutKafka);
+    }
+
+    @Test
+    void returnsNothingWithoutVacanciesOrAlert() {
+        assertThat(jobMatchingService.matchJobs(List.of(), alert(1, tag("java", false)))).isEmpty();
+        assertThat(jobMatchingService.matchJobs(List.of(vacancy("Java", null)), (JobAlert) null)).isEmpty();
+    }
+
+    @Test
+    void storesANormalizedSearchDocumentWithEachVacancy() {
+        when(jobVacancyRepository.findByExternalId("job-1")).thenReturn(Optional.empty());
+        when(jobVacancyRepository.save(any(JobVacancy.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<JobVacancy> saved = jobMatchingService.saveJobVacancies(List.of(
+                jobData("job-1", "Desenvolvedor Sênior C++", "Experiência com Node.js e AWS!")));
+
+        assertThat(saved).singleElement()
+                .satisfies(vacancy -> assertThat(vacancy.getSearchDocument())
+                        .isEqualTo("desenvolvedor senior c++ experiencia com node.js e aws acme fulltime"));
+    }
+
+    @Test
+    void rebuildsTheDocumentWhenAnExistingVacancyChanges() {
+        JobVacancy existing = vacancy("Desenvolvedor Java", null);
+        existing.setExternalId("job-1");
+        existing.setSearchDocument("desenvolvedor java acme");
+        existing.setSearchTerms(Set.of("java"));
+        when(jobVacancyRepository.findByExternalId("job-1")).thenReturn(Optional.of(existing));
+        when(jobVacancyRepository.save(any(JobVacancy.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        jobMatchingService.saveJobVacancies(List.of(jobData("job-1", "Desenvolvedor Kotlin", null)));
+
+        assertThat(existing.getSearchDocument()).isEqualTo("desenvolvedor kotlin acme fulltime");
+        assertThat(JobMatchingService.searchTermsOf(existing)).contains("kotlin").doesNotContain("java");
+    }
+
+    @Test
+    void matchesOnThePersistedDocumentWithoutRetokenizing() {
+        JobVacancy vacancy = vacancy("Título que não é reprocessado", null);
+        vacancy.setSearchDocument("desenvolvedor rust");
+
+        assertThat(JobMatchingService.searchTermsOf(vacancy)).containsExactlyInAnyOrder(
+                "desenvolvedor", "rust", "desenvolvedor rust");
+        assertThat(jobMatchingService.matchJobs(List.of(vacancy), alert(1, tag("rust", false))))
+                .containsExactly(vacancy);
+    }
+
+    @Test
+    void announcesSavedVacanciesAndSkipsJobsWithoutId() {
+        when(jobVacancyRepository.findByExternalId("job-1")).thenReturn(Optional.empty());
+        when(jobVacancyRepository.save(any(JobVacancy.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<JobVacancy> saved = jobMatchingService.saveJobVacancies(List.of(
+                jobData("job-1", "Desenvolvedor Java", null), jobData(" ", "Sem id", null)));
+
+        ArgumentCaptor<JobVacanciesSavedEvent> event = ArgumentCaptor.forClass(JobVacanciesSavedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().vacancies()).isEqualTo(saved).hasSize(1);
+    }
+
+    @Test
+    void doesNotAnnounceWhenNothingWasSaved() {
+        jobMatchingService.saveJobVacancies(List.of(jobData(null, "Sem id", null)));
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private static JSearchDTO.JobData jobData(String jobId, String title, String description) {
+        JSearchDTO.JobData job = new JSearchDTO.JobData();
+        job.setJobId(jobId);
+        job.setJobTitle(title);
+        job.setJobDescription(description);
+        job.setEmployerName("Acme");
+        job.setJobEmploymentType("FULLTIME");
+        job.setJobCity("São Paulo");
+        return job;
+    }
+
+    private static JobVacancy vacancy(String title, String description) {
+        JobVacancy vacancy = new JobVacancy();
+        vacancy.setTitle(title);
+        vacancy.setDescription(description);
+        vacancy.setCompany("Acme");
+        vacancy.setLocation("São Paulo, SP, BR");
+        return vacancy;
+    }
+
+    private static JobAlert alert(Integer minimumMatchingTags, AlertTag... tags) {
+        JobAlert alert = new JobAlert();
+        alert.setId(1L);
+        alert.setTitle("Alerta");
+        alert.setMinimumMatchingTags(minimumMatchingTags);
+        alert.setAlertTags(new LinkedHashSet<>(List.of(tags)));
+        return alert;
+    }
+
+    private static AlertTag tag(String value, boolean required) {
+        AlertTag tag = new AlertTag();
+        tag.setTag(value);
+        tag.setIsRequired(required);
+        return tag;
+    }
+}
@@ -0,0 +1,136 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JSearchDTO;
+import com.jobsearch.repository.JobVacancyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JobSearchCrawlerTest {
+
+    @Mock
+    private JSearchService jSearchService;
+    @Mock
+    private JobVacancyRepository jobVacancyRepository;
+
+    private JobSearchCrawler crawler;
+    private final JSearchQueryKey key = JSearchQueryKey.of("java", "São Paulo", null);
+
+    @BeforeEach
+    void setUp() {
+        crawler = new JobSearchCrawler(jSearchService, jobVacancyRepository);
+        ReflectionTestUtils.setField(crawler, "maxPages", 5);
+        ReflectionTestUtils.setField(crawler, "pagesPerWave", 2);
+        when(jSearchService.streamJobsWithFilters(any(), any(), isNull(), anyInt()))
+                .thenAnswer(invocation -> page(invocation.getArgument(3)));
+        when(jobVacancyRepository.findExistingExternalIds(anyCollection())).thenReturn(List.of());
+    }
+
+    @Test
+    void followsPagesUntilTheResultsRunOut() {
+        when(jSearchService.streamJobsWithFilters(any(), any(), isNull(), eq(3))).thenReturn(Flux.empty());
+
+        JobSearchCrawler.CrawlResult result = crawl();
+
+        assertThat(result.jobs()).extracting(JSearchDTO.JobData::getJobId)
+                .startsWith("p1-a", "p1-b", "p2-a", "p2-b")
+                .doesNotContain("p5-a");
+        assertThat(result.stopReason()).contains("fim dos resultados na página 3");
+        verify(jSearchService, never()).streamJobsWithFilters(any(), any(), any(), eq(5));
+    }
+
+    @Test
+    void stopsWhenAPageHasOnlyStoredJobs() {
+        when(jobVacancyRepository.findExistingExternalIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream().filter(id -> id.startsWith("p2-")).toList();
+        });
+
+        JobSearchCrawler.CrawlResult result = crawl();
+
+        assertThat(result.pagesFetched()).isEqualTo(2);
+        assertThat(result.stopReason()).contains("página 2 sem vagas novas");
+        verify(jSearchService, never()).streamJobsWithFilters(any(), any(), any(), eq(3));
+    }
+
+    @Test
+    void keepsGoingWhileAPageHasSomeNewJobs() {
+        when(jobVacancyRepository.findExistingExternalIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream().filter(id -> id.endsWith("-a")).toList();
+        });
+
+        JobSearchCrawler.CrawlResult result = crawl();
+
+        assertThat(result.pagesFetched()).isEqualTo(5);
+        assertThat(result.stopReason()).isEqualTo("limite de 5 páginas");
+    }
+
+    @Test
+    void stopsAtTheMaximumNumberOfPages() {
+        ReflectionTestUtils.setField(crawler, "maxPages", 3);
+
+        JobSearchCrawler.CrawlResult result = crawl();
+
+        assertThat(result.pagesFetched()).isEqualTo(3);
+        assertThat(result.jobs()).hasSize(6);
+        assertThat(result.stopReason()).isEqualTo("limite de 3 páginas");
+        verify(jSearchService, never()).streamJobsWithFilters(any(), any(), any(), eq(4));
+    }
+
+    @Test
+    void endsPaginationWhenALaterPageFails() {
+        when(jSearchService.streamJobsWithFilters(any(), any(), isNull(), eq(2)))
+                .thenReturn(Flux.error(new IllegalStateException("falha")));
+
+        JobSearchCrawler.CrawlResult result = crawl();
+
+        assertThat(result.jobs()).extracting(JSearchDTO.JobData::getJobId).containsExactly("p1-a", "p1-b");
+        assertThat(result.stopReason()).contains("fim dos resultados na página 2");
+    }
+
+    @Test
+    void failsTheCrawlWhenTheFirstPageFails() {
+        when(jSearchService.streamJobsWithFilters(any(), any(), isNull(), eq(1)))
+                .thenReturn(Flux.error(new IllegalStateException("falha")));
+
+        assertThatThrownBy(this::crawl).hasMessageContaining("falha");
+    }
+
+    private JobSearchCrawler.CrawlResult crawl() {
+        return crawler.crawl(key).block(Duration.ofSeconds(5));
+    }
+
+    private static Flux<JSearchDTO.JobData> page(int page) {
+        return Flux.just(job("p" + page + "-a"), job("p" + page + "-b"));
+    }
+
+    private static JSearchDTO.JobData job(String jobId) {
+        JSearchDTO.JobData job = new JSearchDTO.JobData();
+        job.setJobId(jobId);
+        return job;
+    }
+}
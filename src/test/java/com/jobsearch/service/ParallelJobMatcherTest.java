@@ -0,0 +1,140 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.entity.JobVacancy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ParallelJobMatcherTest {
+
+    private static final String[] SKILLS = {"java", "kotlin", "python", "go", "rust", "kafka", "spring", "aws",
+            "docker", "react"};
+
+    private RelevanceScorer relevanceScorer;
+    private ParallelJobMatcher matcher;
+    private List<JobVacancy> vacancies;
+    private List<AlertMatcher> alerts;
+
+    @BeforeEach
+    void setUp() {
+        relevanceScorer = new RelevanceScorer(mock(VacancySearchIndex.class));
+        ReflectionTestUtils.setField(relevanceScorer, "k1", 1.2);
+        ReflectionTestUtils.setField(relevanceScorer, "b", 0.75);
+        ReflectionTestUtils.setField(relevanceScorer, "recencyHalfLifeHours", 72.0);
+        ReflectionTestUtils.setField(relevanceScorer, "recencyWeight", 1.0);
+
+        matcher = matcher(0);
+
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        vacancies = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            StringBuilder title = new StringBuilder("Desenvolvedor");
+            for (int word = 0; word < 3; word++) {
+                title.append(' ').append(SKILLS[random.nextInt(SKILLS.length)]);
+            }
+            JobVacancy vacancy = new JobVacancy();
+            vacancy.setId(id);
+            vacancy.setTitle(title.toString());
+            vacancy.setCompany("Acme");
+            vacancy.setPublishedAt(now.minusMinutes(id));
+            vacancies.add(vacancy);
+        }
+
+        alerts = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) {
+            alerts.add(alert(id, (int) (id % 2) + 1, SKILLS[(int) id % SKILLS.length],
+                    SKILLS[(int) (id * 3) % SKILLS.length]));
+        }
+        alerts.add(alert(13L, 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        matcher.stop();
+    }
+
+    @Test
+    void parallelMatchingReturnsTheSameMatchesAsSequentialMatching() {
+        Map<Long, List<JobVacancy>> sequential = sequential(0).matchAll(vacancies, alerts);
+
+        Map<Long, List<JobVacancy>> parallel = matcher.matchAll(vacancies, alerts);
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(parallel.get(13L)).isEmpty();
+        assertThat(parallel.values().stream().mapToInt(List::size).sum()).isGreaterThan(1000);
+        assertThat(matcher.getStats().getParallelBatches()).isEqualTo(1);
+        assertThat(matcher.getStats().getEvaluations()).isEqualTo(3000L * 13);
+    }
+
+    @Test
+    void keepsOnlyTheMostRelevantMatchesPerAlertWhenCapped() {
+        matcher.stop();
+        matcher = matcher(25);
+        Map<Long, List<JobVacancy>> uncapped = sequential(0).matchAll(vacancies, alerts);
+
+        Map<Long, List<JobVacancy>> parallel = matcher.matchAll(vacancies, alerts);
+        Map<Long, List<JobVacancy>> sequential = sequential(25).matchAll(vacancies, alerts);
+
+        assertThat(parallel).isEqualTo(sequential);
+        for (AlertMatcher alert : alerts) {
+            List<JobVacancy> all = uncapped.get(alert.getAlertId());
+            assertThat(parallel.get(alert.getAlertId()))
+                    .hasSizeLessThanOrEqualTo(25)
+                    .isEqualTo(relevanceScorer.selectTop(alert, all, 25));
+        }
+    }
+
+    @Test
+    void returnsNothingForEmptyInput() {
+        assertThat(matcher.matchAll(List.of(), alerts)).isEmpty();
+        assertThat(matcher.matchAll(vacancies, List.of())).isEmpty();
+    }
+
+    private ParallelJobMatcher matcher(int maxMatchesPerAlert) {
+        ParallelJobMatcher parallel = new ParallelJobMatcher(relevanceScorer);
+        ReflectionTestUtils.setField(parallel, "parallelism", 4);
+        ReflectionTestUtils.setField(parallel, "parallelThreshold", 1L);
+        ReflectionTestUtils.setField(parallel, "chunkSize", 500L);
+        ReflectionTestUtils.setField(parallel, "maxMatchesPerAlert", maxMatchesPerAlert);
+        parallel.start();
+        return parallel;
+    }
+
+    private ParallelJobMatcher sequential(int maxMatchesPerAlert) {
+        ParallelJobMatcher sequential = new ParallelJobMatcher(relevanceScorer);
+        ReflectionTestUtils.setField(sequential, "parallelism", 1);
+        ReflectionTestUtils.setField(sequential, "parallelThreshold", Long.MAX_VALUE);
+        ReflectionTestUtils.setField(sequential, "chunkSize", 500L);
+        ReflectionTestUtils.setField(sequential, "maxMatchesPerAlert", maxMatchesPerAlert);
+        sequential.start();
+        return sequential;
+    }
+
+    private static AlertMatcher alert(Long id, int minimumTags, String... tags) {
+        JobAlertDTO.JobAlertResponse alert = new JobAlertDTO.JobAlertResponse();
+        alert.setId(id);
+        alert.setTitle("Alerta " + id);
+        alert.setMinimumMatchingTags(minimumTags);
+        List<JobAlertDTO.TagResponse> tagResponses = new ArrayList<>();
+        for (String value : tags) {
+            JobAlertDTO.TagResponse tag = new JobAlertDTO.TagResponse();
+            tag.setTag(value);
+            tag.setIsRequired(false);
+            tagResponses.add(tag);
+        }
+        alert.setTags(tagResponses);
+        return AlertMatcher.compile(alert);
+    }
+}
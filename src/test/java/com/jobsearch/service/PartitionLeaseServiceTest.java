@@ -0,0 +1,86 @@
+package com.jobsearch.service;
+
+import com.jobsearch.repository.SchedulerNodeRepository;
+import com.jobsearch.repository.SchedulerPartitionLeaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class PartitionLeaseServiceTest {
+
+    @Autowired
+    private SchedulerNodeRepository nodeRepository;
+
+    @Autowired
+    private SchedulerPartitionLeaseRepository leaseRepository;
+
+    private PartitionLeaseService nodeA;
+    private PartitionLeaseService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = node("node-a");
+        nodeB = node("node-b");
+    }
+
+    @Test
+    void singleNodeOwnsEveryPartition() {
+        nodeA.heartbeat(false);
+
+        assertThat(nodeA.getOwnedPartitions()).containsExactly(0, 1, 2, 3);
+        assertThat(nodeA.getLiveNodeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rebalancesPartitionsWhenASecondNodeJoins() {
+        nodeA.heartbeat(false);
+        nodeB.heartbeat(false);
+        assertThat(nodeB.getOwnedPartitions()).isEmpty();
+
+        nodeA.heartbeat(false);
+        nodeB.heartbeat(false);
+
+        assertThat(nodeA.getOwnedPartitions()).hasSize(2);
+        assertThat(nodeB.getOwnedPartitions()).hasSize(2);
+        Set<Integer> all = new HashSet<>(nodeA.getOwnedPartitions());
+        all.addAll(nodeB.getOwnedPartitions());
+        assertThat(all).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    @Test
+    void keepsExtraPartitionsWhileARunIsActive() {
+        nodeA.heartbeat(false);
+        nodeB.heartbeat(false);
+
+        nodeA.heartbeat(true);
+
+        assertThat(nodeA.getOwnedPartitions()).hasSize(4);
+    }
+
+    @Test
+    void ownsAlertsByTheirPartition() {
+        nodeA.heartbeat(false);
+
+        assertThat(nodeA.partitionOf(6L)).isEqualTo(2);
+        assertThat(nodeA.ownsAlert(6L)).isTrue();
+        assertThat(nodeA.ownsAlert(null)).isFalse();
+    }
+
+    private PartitionLeaseService node(String nodeId) {
+        PartitionLeaseService service = new PartitionLeaseService(nodeRepository, leaseRepository);
+        ReflectionTestUtils.setField(service, "clusterEnabled", true);
+        ReflectionTestUtils.setField(service, "partitionCount", 4);
+        ReflectionTestUtils.setField(service, "leaseDurationSeconds", 60L);
+        ReflectionTestUtils.setField(service, "configuredNodeId", nodeId);
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,160 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.entity.JobVacancy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RelevanceScorerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private VacancySearchIndex vacancySearchIndex;
+
+    private RelevanceScorer scorer;
+
+    @BeforeEach
+    void setUp() {
+        scorer = new RelevanceScorer(vacancySearchIndex);
+        ReflectionTestUtils.setField(scorer, "maxJobsPerEmail", 20);
+        ReflectionTestUtils.setField(scorer, "k1", 1.2);
+        ReflectionTestUtils.setField(scorer, "b", 0.75);
+        ReflectionTestUtils.setField(scorer, "recencyHalfLifeHours", 72.0);
+        ReflectionTestUtils.setField(scorer, "recencyWeight", 0.0);
+        when(vacancySearchIndex.size()).thenReturn(0);
+        when(vacancySearchIndex.averageDocumentLength()).thenReturn(0.0);
+    }
+
+    @Test
+    void ranksRareTagsAboveCommonOnes() {
+        when(vacancySearchIndex.size()).thenReturn(100);
+        when(vacancySearchIndex.averageDocumentLength()).thenReturn(3.0);
+        when(vacancySearchIndex.documentFrequency(anyList())).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).contains("java") ? 90 : 2);
+        JobVacancy java = vacancy(1L, "dev java acme", NOW);
+        JobVacancy rust = vacancy(2L, "dev rust acme", NOW);
+
+        List<JobVacancy> ranked = scorer.selectTop(alert("java", "rust"), List.of(java, rust));
+
+        assertThat(ranked).containsExactly(rust, java);
+    }
+
+    @Test
+    void ranksMoreMentionsAndShorterDocumentsHigher() {
+        JobVacancy once = vacancy(1L, "java spring docker aws", NOW);
+        JobVacancy twice = vacancy(2L, "java spring java aws", NOW);
+        JobVacancy longer = vacancy(3L, "java spring docker aws kafka redis postgres linux", NOW);
+        when(vacancySearchIndex.size()).thenReturn(3);
+        when(vacancySearchIndex.averageDocumentLength()).thenReturn(16 / 3.0);
+        when(vacancySearchIndex.documentFrequency(anyList())).thenReturn(3);
+
+        List<JobVacancy> ranked = scorer.selectTop(alert("java"), List.of(longer, once, twice));
+
+        assertThat(ranked).containsExactly(twice, once, longer);
+    }
+
+    @Test
+    void matchesMultiWordTagsOnlyAsPhrases() {
+        JobVacancy phrase = vacancy(1L, "spring boot java", NOW.minusDays(2));
+        JobVacancy scattered = vacancy(2L, "boot java spring", NOW);
+
+        List<JobVacancy> ranked = scorer.selectTop(alert("spring boot"), List.of(scattered, phrase));
+
+        assertThat(ranked).containsExactly(phrase, scattered);
+    }
+
+    @Test
+    void boostsRecentVacanciesAndBreaksTiesByPostingTime() {
+        JobVacancy older = vacancy(1L, "java java spring", NOW.minusDays(10));
+        JobVacancy newer = vacancy(2L, "java spring docker", NOW.minusHours(1));
+        JobVacancy sameButOlder = vacancy(3L, "java spring docker", NOW.minusHours(5));
+
+        assertThat(scorer.selectTop(alert("java"), List.of(older, newer))).containsExactly(older, newer);
+        assertThat(scorer.selectTop(alert("java"), List.of(sameButOlder, newer))).containsExactly(newer, sameButOlder);
+
+        ReflectionTestUtils.setField(scorer, "recencyWeight", 1.0);
+        assertThat(scorer.selectTop(alert("java"), List.of(older, newer))).containsExactly(newer, older);
+    }
+
+    @Test
+    void keepsOnlyTheTopKWithoutSortingEverything() {
+        List<JobVacancy> vacancies = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            vacancies.add(vacancy(id, "java " + "spring ".repeat((int) id % 7) + "aws", NOW.minusMinutes(id)));
+        }
+        Collections.shuffle(vacancies, new Random(7));
+
+        List<JobVacancy> top = scorer.selectTop(alert("java"), vacancies, 5);
+        List<JobVacancy> all = scorer.selectTop(alert("java"), vacancies, 50);
+
+        assertThat(top).hasSize(5).isEqualTo(all.subList(0, 5));
+        assertThat(scorer.selectTop(alert("java"), vacancies)).hasSize(20);
+    }
+
+    @Test
+    void boundedHeapKeepsTheBestOffers() {
+        RelevanceScorer.TopK top = scorer.rankingFor(alert("java")).topK(2);
+        JobVacancy best = vacancy(1L, "java java java", NOW);
+        JobVacancy good = vacancy(2L, "java java spring", NOW);
+        JobVacancy weak = vacancy(3L, "java spring docker", NOW);
+
+        top.offer(weak);
+        top.offer(best);
+        top.offer(good);
+
+        assertThat(top.toList()).containsExactly(best, good);
+        RelevanceScorer.TopK none = scorer.rankingFor(alert("java")).topK(0);
+        none.offer(best);
+        assertThat(none.toList()).isEmpty();
+    }
+
+    @Test
+    void returnsNothingForNoVacanciesOrNoRoom() {
+        assertThat(scorer.selectTop(alert("java"), List.of())).isEmpty();
+        assertThat(scorer.selectTop(alert("java"), List.of(vacancy(1L, "java", NOW)), 0)).isEmpty();
+    }
+
+    private static JobVacancy vacancy(Long id, String document, LocalDateTime publishedAt) {
+        JobVacancy vacancy = new JobVacancy();
+        vacancy.setId(id);
+        vacancy.setTitle(document);
+        vacancy.setSearchDocument(document);
+        vacancy.setPublishedAt(publishedAt);
+        return vacancy;
+    }
+
+    private static AlertMatcher alert(String... tags) {
+        JobAlertDTO.JobAlertResponse alert = new JobAlertDTO.JobAlertResponse();
+        alert.setId(1L);
+        alert.setTitle("Alerta");
+        alert.setMinimumMatchingTags(1);
+        List<JobAlertDTO.TagResponse> tagResponses = new ArrayList<>();
+        for (String value : tags) {
+            JobAlertDTO.TagResponse tag = new JobAlertDTO.TagResponse();
+            tag.setTag(value);
+            tag.setIsRequired(false);
+            tagResponses.add(tag);
+        }
+        alert.setTags(tagResponses);
+        return AlertMatcher.compile(alert);
+    }
+}
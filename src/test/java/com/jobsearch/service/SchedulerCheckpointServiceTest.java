@@ -0,0 +1,100 @@
+package com.jobsearch.service;
+
+import com.jobsearch.entity.SchedulerRunRecord;
+import com.jobsearch.repository.SchedulerRunCheckpointRepository;
+import com.jobsearch.repository.SchedulerRunRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+class SchedulerCheckpointServiceTest {
+
+    @Autowired
+    private SchedulerRunRecordRepository runRecordRepository;
+
+    @Autowired
+    private SchedulerRunCheckpointRepository checkpointRepository;
+
+    private SchedulerCheckpointService checkpointService;
+
+    @BeforeEach
+    void setUp() {
+        PartitionLeaseService partitionLeaseService = mock(PartitionLeaseService.class);
+        when(partitionLeaseService.getNodeId()).thenReturn("node-b");
+        checkpointService = new SchedulerCheckpointService(runRecordRepository, checkpointRepository,
+                partitionLeaseService);
+        ReflectionTestUtils.setField(checkpointService, "staleAfterSeconds", 120L);
+        ReflectionTestUtils.setField(checkpointService, "retentionDays", 7);
+    }
+
+    @Test
+    void claimsOnlyRunsWhoseHeartbeatIsOlderThanTheStaleWindow() {
+        saveRun("recent", SchedulerCheckpointService.STATUS_RUNNING, LocalDateTime.now().minusSeconds(30));
+        saveRun("stale", SchedulerCheckpointService.STATUS_RUNNING, LocalDateTime.now().minusMinutes(10));
+
+        SchedulerRunRecord claimed = checkpointService.claimOrphanedRun(null).orElseThrow();
+
+        assertThat(claimed.getId()).isEqualTo("stale");
+        assertThat(checkpointService.claimOrphanedRun(null)).isEmpty();
+    }
+
+    @Test
+    void neverClaimsTheRunActiveOnThisNode() {
+        saveRun("active", SchedulerCheckpointService.STATUS_RUNNING, LocalDateTime.now().minusMinutes(10));
+
+        assertThat(checkpointService.claimOrphanedRun("active")).isEmpty();
+    }
+
+    @Test
+    void interruptedRunIsImmediatelyClaimable() {
+        checkpointService.recordRunStarted("interrupted", "MANUAL", List.of(1L, 2L));
+        checkpointService.recordRunInterrupted("interrupted");
+
+        SchedulerRunRecord claimed = checkpointService.claimOrphanedRun(null).orElseThrow();
+
+        assertThat(claimed.getId()).isEqualTo("interrupted");
+        assertThat(checkpointService.getRunAlertIds(claimed)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void restoresDoneAlertsAndFetchedSearchesOfARun() {
+        checkpointService.recordRunStarted("run", "MANUAL", List.of(1L, 2L));
+        checkpointService.recordSearchFetched("run", "java|são paulo", List.of(10L, 11L));
+        checkpointService.recordAlertDone("run", 1L);
+
+        assertThat(checkpointService.getDoneAlertIds("run")).containsExactly(1L);
+        assertThat(checkpointService.getFetchedSearches("run"))
+                .containsEntry("java|são paulo", List.of(10L, 11L));
+    }
+
+    @Test
+    void cleanupRemovesOldFinishedRunsAndCheckpointsOfFinishedRuns() {
+        saveRun("old", "COMPLETED", LocalDateTime.now().minusDays(8));
+        saveRun("yesterday", "COMPLETED", LocalDateTime.now().minusDays(1));
+        saveRun("running", SchedulerCheckpointService.STATUS_RUNNING, LocalDateTime.now());
+        checkpointService.recordAlertDone("yesterday", 1L);
+        checkpointService.recordAlertDone("running", 2L);
+
+        checkpointService.cleanup();
+
+        assertThat(runRecordRepository.findAll()).extracting(SchedulerRunRecord::getId)
+                .containsExactlyInAnyOrder("yesterday", "running");
+        assertThat(checkpointService.getDoneAlertIds("yesterday")).isEmpty();
+        assertThat(checkpointService.getDoneAlertIds("running")).containsExactly(2L);
+    }
+
+    private void saveRun(String id, String status, LocalDateTime updatedAt) {
+        runRecordRepository.saveAndFlush(new SchedulerRunRecord(id, "SCHEDULED", status, "node-a", 1, "1",
+                updatedAt, updatedAt, SchedulerCheckpointService.STATUS_RUNNING.equals(status) ? null : updatedAt));
+    }
+}
@@ -0,0 +1,73 @@
+package com.jobsearch.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTermsTest {
+
+    @Test
+    void tokenizesOnWordBoundariesAndLowercases() {
+        assertThat(SearchTerms.tokenize("Desenvolvedor JAVA/Spring-Boot, (remoto)!"))
+                .containsExactly("desenvolvedor", "java", "spring", "boot", "remoto");
+    }
+
+    @Test
+    void keepsTechnologyNamesWithSymbolsTogether() {
+        assertThat(SearchTerms.tokenize("C++, C#, Node.js e .NET; fim."))
+                .containsExactly("c++", "c#", "node.js", "e", "net", "fim");
+    }
+
+    @Test
+    void foldsAccentsSoBothSpellingsMatch() {
+        assertThat(SearchTerms.tokenize("Sênior São Paulo")).containsExactly("senior", "sao", "paulo");
+        assertThat(SearchTerms.fold("plain ascii")).isEqualTo("plain ascii");
+        assertThat(SearchTerms.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void doesNotMatchATagInsideALongerWord() {
+        Set<String> terms = SearchTerms.index("Vaga para JavaScript e TypeScript");
+
+        assertThat(SearchTerms.containsAll(terms, SearchTerms.keysOf("java"))).isFalse();
+        assertThat(SearchTerms.containsAll(terms, SearchTerms.keysOf("javascript"))).isTrue();
+        assertThat(SearchTerms.containsAll(SearchTerms.index("Experiência com C"), SearchTerms.keysOf("C++")))
+                .isFalse();
+    }
+
+    @Test
+    void indexesPhrasesUpToTheMaximumLength() {
+        Set<String> terms = SearchTerms.index("a b c d e");
+
+        assertThat(terms).contains("a", "a b", "a b c", "a b c d", "b c d e", "e")
+                .doesNotContain("a b c d e", "a c");
+    }
+
+    @Test
+    void splitsLongTagsIntoOverlappingPhraseKeys() {
+        assertThat(SearchTerms.keysOf("Spring Boot")).containsExactly("spring boot");
+        assertThat(SearchTerms.keysOf("a b c d e f")).containsExactly("a b c d", "b c d e", "c d e f");
+        assertThat(SearchTerms.keysOf(" - ")).isEmpty();
+        assertThat(SearchTerms.containsAll(Set.of("java"), new String[0])).isFalse();
+    }
+
+    @Test
+    void countsPhraseOccurrences() {
+        String[] tokens = SearchTerms.tokenize("spring boot e spring cloud com spring boot").toArray(String[]::new);
+
+        assertThat(SearchTerms.countPhrase(tokens, List.of("spring", "boot"))).isEqualTo(2);
+        assertThat(SearchTerms.countPhrase(tokens, List.of("spring"))).isEqualTo(3);
+        assertThat(SearchTerms.countPhrase(tokens, List.of())).isZero();
+    }
+
+    @Test
+    void matchesLocationsOnWholeTerms() {
+        assertThat(SearchTerms.locationMatches("SP", "São Paulo, SP, BR")).isTrue();
+        assertThat(SearchTerms.locationMatches("SP", "Springfield, IL, US")).isFalse();
+        assertThat(SearchTerms.locationMatches("sao paulo", "São Paulo, SP, BR")).isTrue();
+        assertThat(SearchTerms.locationMatches(null, "Qualquer lugar")).isTrue();
+    }
+}
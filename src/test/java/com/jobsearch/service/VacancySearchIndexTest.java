@@ -0,0 +1,196 @@
+package com.jobsearch.service;
+
+import com.jobsearch.dto.JobAlertDTO;
+import com.jobsearch.dto.SchedulerDTO;
+import com.jobsearch.entity.JobVacancy;
+import com.jobsearch.repository.JobVacancyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class VacancySearchIndexTest {
+
+    @Mock
+    private JobVacancyRepository jobVacancyRepository;
+
+    private VacancySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new VacancySearchIndex(jobVacancyRepository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "batchSize", 2);
+        ReflectionTestUtils.setField(index, "rescanOverlapSeconds", 300L);
+        ReflectionTestUtils.setField(index, "retentionDays", 30L);
+        when(jobVacancyRepository.findByCreatedAtGreaterThanEqual(any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void findsVacanciesWithAnyTagNewestFirst() {
+        index.add(List.of(
+                vacancy(1L, "Desenvolvedor Java", 1),
+                vacancy(2L, "Desenvolvedor Python", 1),
+                vacancy(3L, "Engenheiro Kotlin e Java", 1)));
+
+        assertThat(index.findCandidates(matcher(1, tag("java", false), tag("python", false))))
+                .containsExactly(3L, 2L, 1L);
+        assertThat(index.findCandidates(matcher(1, tag("go", false)))).isEmpty();
+    }
+
+    @Test
+    void appliesRequiredTagsAndTheMinimumNumberOfTags() {
+        index.add(List.of(
+                vacancy(1L, "Java Spring Kafka", 1),
+                vacancy(2L, "Java Spring", 1),
+                vacancy(3L, "Python Spring Kafka", 1)));
+
+        assertThat(index.findCandidates(matcher(1, tag("java", true), tag("kafka", false))))
+                .containsExactly(2L, 1L);
+        assertThat(index.findCandidates(matcher(3, tag("java", false), tag("spring", false), tag("kafka", false))))
+                .containsExactly(1L);
+        assertThat(index.findCandidates(matcher(2, tag("kafka", true), tag("java", false), tag("spring", false))))
+                .containsExactly(3L, 1L);
+    }
+
+    @Test
+    void narrowsMultiWordTagsToVacanciesWithEveryWord() {
+        index.add(List.of(
+                vacancy(1L, "Spring Boot", 1),
+                vacancy(2L, "Spring Cloud", 1)));
+
+        assertThat(index.findCandidates(matcher(1, tag("spring boot", false)))).containsExactly(1L);
+        assertThat(index.documentFrequency(List.of("spring"))).isEqualTo(2);
+        assertThat(index.documentFrequency(List.of("spring", "boot"))).isEqualTo(1);
+    }
+
+    @Test
+    void reindexesAnUpdatedVacancyInPlace() {
+        index.add(List.of(vacancy(1L, "Desenvolvedor Java", 1)));
+
+        index.add(List.of(vacancy(1L, "Desenvolvedor Rust", 1)));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findCandidates(matcher(1, tag("java", false)))).isEmpty();
+        assertThat(index.findCandidates(matcher(1, tag("rust", false)))).containsExactly(1L);
+    }
+
+    @Test
+    void ignoresVacanciesOlderThanTheRetentionWindow() {
+        index.add(List.of(vacancy(1L, "Desenvolvedor Java", 31), vacancy(2L, "Desenvolvedor Java", 29)));
+
+        assertThat(index.findCandidates(matcher(1, tag("java", false)))).containsExactly(2L);
+    }
+
+    @Test
+    void purgesExpiredVacanciesAndCompactsTheIndex() {
+        index.add(List.of(
+                vacancy(1L, "Java legado", 20),
+                vacancy(2L, "Java Kafka", 20),
+                vacancy(3L, "Java Spring", 1),
+                vacancy(4L, "Cobol legado", 20)));
+        ReflectionTestUtils.setField(index, "retentionDays", 10L);
+
+        index.refresh();
+
+        SchedulerDTO.SearchIndexStats stats = index.getStats();
+        assertThat(stats.getDocuments()).isEqualTo(1);
+        assertThat(stats.getDeletedDocuments()).isZero();
+        assertThat(stats.getPurgedDocuments()).isEqualTo(3);
+        assertThat(stats.getCompactions()).isEqualTo(1);
+        assertThat(stats.getTerms()).isEqualTo(4);
+        assertThat(index.findCandidates(matcher(1, tag("java", false)))).containsExactly(3L);
+        assertThat(index.findCandidates(matcher(1, tag("legado", false)))).isEmpty();
+
+        index.add(List.of(vacancy(5L, "Java legado", 1)));
+        assertThat(index.findCandidates(matcher(1, tag("java", false)))).containsExactly(5L, 3L);
+    }
+
+    @Test
+    void catchesUpFromTheRetentionCutoffThenFromTheLastIndexedVacancyWithAnOverlap() {
+        JobVacancy first = vacancy(1L, "Java", 1);
+        JobVacancy second = vacancy(2L, "Kotlin", 1);
+        JobVacancy third = vacancy(3L, "Go", 1);
+        when(jobVacancyRepository.findByCreatedAtGreaterThanEqual(any(), any()))
+                .thenReturn(List.of(first, second), List.of(third), List.of(third));
+
+        index.build();
+        index.refresh();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Pageable> pages = ArgumentCaptor.forClass(Pageable.class);
+        verify(jobVacancyRepository, times(3)).findByCreatedAtGreaterThanEqual(since.capture(), pages.capture());
+        assertThat(since.getAllValues().get(0)).isCloseTo(LocalDateTime.now().minusDays(30), within(5, ChronoUnit.SECONDS));
+        assertThat(pages.getAllValues()).extracting(Pageable::getPageNumber).containsExactly(0, 1, 0);
+        assertThat(since.getAllValues().get(2)).isEqualTo(third.getCreatedAt().minusSeconds(300));
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void scansEveryStoredVacancyWhenRetentionIsDisabled() {
+        ReflectionTestUtils.setField(index, "retentionDays", 0L);
+        when(jobVacancyRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(vacancy(1L, "Java", 400))));
+
+        index.build();
+
+        assertThat(index.findCandidates(matcher(1, tag("java", false)))).containsExactly(1L);
+    }
+
+    @Test
+    void reportsTheAverageDocumentLength() {
+        index.add(List.of(vacancy(1L, "a b", 1), vacancy(2L, "a b c d", 1)));
+
+        assertThat(index.averageDocumentLength()).isEqualTo(((2 + 2) + (4 + 2)) / 2.0);
+    }
+
+    private static JobVacancy vacancy(Long id, String title, int daysAgo) {
+        JobVacancy vacancy = new JobVacancy();
+        vacancy.setId(id);
+        vacancy.setTitle(title);
+        vacancy.setCompany("Acme");
+        vacancy.setEmploymentType("CLT");
+        vacancy.setLocation("São Paulo");
+        vacancy.setCreatedAt(LocalDateTime.now().minusDays(daysAgo).plusSeconds(id));
+        vacancy.setPublishedAt(vacancy.getCreatedAt());
+        return vacancy;
+    }
+
+    private static AlertMatcher matcher(int minimumTags, JobAlertDTO.TagResponse... tags) {
+        JobAlertDTO.JobAlertResponse alert = new JobAlertDTO.JobAlertResponse();
+        alert.setId(1L);
+        alert.setTitle("Alerta");
+        alert.setMinimumMatchingTags(minimumTags);
+        alert.setTags(new ArrayList<>(Arrays.asList(tags)));
+        return AlertMatcher.compile(alert);
+    }
+
+    private static JobAlertDTO.TagResponse tag(String value, boolean required) {
+        JobAlertDTO.TagResponse tag = new JobAlertDTO.TagResponse();
+        tag.setTag(value);
+        tag.setIsRequired(required);
+        return tag;
+    }
+}